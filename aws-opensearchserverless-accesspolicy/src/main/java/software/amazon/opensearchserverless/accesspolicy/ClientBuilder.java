@@ -1,22 +1,101 @@
 package software.amazon.opensearchserverless.accesspolicy;
 
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClientBuilder;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClientBuilder;
 
 import java.time.Duration;
 
 import static software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient.builder;
 
-
+/**
+ * Registry of the OpenSearchServerless client, built on first use and shared by all the handlers of the JVM.
+ * <p>
+ * The handlers, and the handlers they nest, reuse the client and its connection pool, so that a cold start builds a
+ * single client and the invocations of a warm container reuse its kept alive connections instead of opening new TLS
+ * connections. The timeouts and retries of the client are set with {@link OperationProfile}.
+ * <p>
+ * The async client is built and shared the same way, on the default async HTTP transport of the SDK.
+ */
 public class ClientBuilder {
-    private static final Duration API_CALL_TIMEOUT = Duration.ofSeconds(55);
+    /**
+     * Connections of the pool of the apache transport, enough for the concurrent service calls of the container.
+     */
+    static final int MAX_CONNECTIONS = 16;
+    /**
+     * Time an idle connection is kept in the pool, below the idle timeout of the service endpoint so that the pool
+     * closes an idle connection before the service does.
+     */
+    static final Duration CONNECTION_MAX_IDLE_TIME = Duration.ofSeconds(50);
+    /**
+     * Retry mode of the clients. In the adaptive mode, a client throttled by the service lowers the rate of its own
+     * calls and waits for its client side capacity before each attempt, instead of retrying at the rate it was throttled.
+     */
+    static final RetryMode RETRY_MODE = RetryMode.ADAPTIVE;
+
     public static OpenSearchServerlessClient getClient() {
+        return Registry.CLIENT;
+    }
+
+    public static OpenSearchServerlessAsyncClient getAsyncClient() {
+        return AsyncRegistry.CLIENT;
+    }
+
+    static OpenSearchServerlessClient newClient() {
+        return newClientBuilder().build();
+    }
+
+    /**
+     * @return builder of a client configured for the handlers
+     */
+    static OpenSearchServerlessClientBuilder newClientBuilder() {
         return builder()
-            .httpClient(LambdaWrapper.HTTP_CLIENT)
-            .overrideConfiguration(ClientOverrideConfiguration.builder()
-                .apiCallAttemptTimeout(API_CALL_TIMEOUT)
-                .build())
+            .httpClient(newHttpClient())
+            .overrideConfiguration(newOverrideConfiguration());
+    }
+
+    /**
+     * @return apache client tuned for the handlers
+     */
+    static SdkHttpClient newHttpClient() {
+        return ApacheHttpClient.builder()
+            .maxConnections(MAX_CONNECTIONS)
+            .connectionMaxIdleTime(CONNECTION_MAX_IDLE_TIME)
+            .tcpKeepAlive(true)
             .build();
     }
+
+    /**
+     * @return builder of an async client configured for the handlers
+     */
+    static OpenSearchServerlessAsyncClientBuilder newAsyncClientBuilder() {
+        return OpenSearchServerlessAsyncClient.builder()
+            .overrideConfiguration(newOverrideConfiguration());
+    }
+
+    private static ClientOverrideConfiguration newOverrideConfiguration() {
+        return ClientOverrideConfiguration.builder()
+            .retryPolicy(OperationProfile.retryPolicy(RETRY_MODE))
+            .addExecutionInterceptor(new OperationProfile.Interceptor())
+            .build();
+    }
+
+    /**
+     * Holder of the shared client, initialized by the class loader on the first call of {@link #getClient()}.
+     */
+    private static final class Registry {
+        private static final OpenSearchServerlessClient CLIENT = newClient();
+    }
+
+    /**
+     * Holder of the shared async client, initialized by the class loader on the first call of {@link #getAsyncClient()}.
+     */
+    private static final class AsyncRegistry {
+        private static final OpenSearchServerlessAsyncClient CLIENT = newAsyncClientBuilder().build();
+    }
 }
@@ -7,6 +7,7 @@ import software.amazon.awssdk.services.opensearchserverless.model.CreateAccessPo
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -18,8 +19,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import com.amazonaws.util.StringUtils;
-
 public class CreateHandler extends BaseHandlerStd {
 
     public CreateHandler() {
@@ -38,27 +37,28 @@ public class CreateHandler extends BaseHandlerStd {
             final Logger logger) {
 
         ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Name cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Type cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getPolicy())) {
+        if (StringUtils.isEmpty(model.getPolicy())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Policy cannot be empty");
         }
 
         return proxy.initiate("AWS-OpenSearchServerless-AccessPolicy::Create", proxyClient, request.getDesiredResourceState(), callbackContext)
                     .translateToServiceRequest(Translator::translateToCreateRequest)
-                    .makeServiceCall((awsRequest, client) -> createAccessPolicy(awsRequest, client, logger))
+                    .makeServiceCall((awsRequest, client) -> createAccessPolicy(awsRequest, client, request, logger))
                     .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromCreateResponse(awsResponse)));
     }
 
     private CreateAccessPolicyResponse createAccessPolicy(
             final CreateAccessPolicyRequest createAccessPolicyRequest,
             final ProxyClient<OpenSearchServerlessClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
             final Logger logger) {
         CreateAccessPolicyResponse createAccessPolicyResponse;
         try {
@@ -78,6 +78,8 @@ public class CreateHandler extends BaseHandlerStd {
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("CreateAccessPolicy", e);
         }
+        ACCESS_POLICY_VERSIONS.put(request, Translator.getResourceIdentifier(request.getDesiredResourceState()),
+                createAccessPolicyResponse.accessPolicyDetail());
         logger.log(String.format("%s successfully created. response: %s", ResourceModel.TYPE_NAME, createAccessPolicyResponse));
         return createAccessPolicyResponse;
     }
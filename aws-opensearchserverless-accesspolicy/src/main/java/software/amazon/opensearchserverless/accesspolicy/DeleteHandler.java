@@ -6,6 +6,7 @@ import software.amazon.awssdk.services.opensearchserverless.model.DeleteAccessPo
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -16,8 +17,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import com.amazonaws.util.StringUtils;
-
 public class DeleteHandler extends BaseHandlerStd {
 
     public DeleteHandler() {
@@ -37,23 +36,24 @@ public class DeleteHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Name cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Type cannot be empty");
         }
 
         return proxy.initiate("AWS-OpenSearchServerless-AccessPolicy::Delete", proxyClient, request.getDesiredResourceState(), callbackContext)
                     .translateToServiceRequest(Translator::translateToDeleteRequest)
-                    .makeServiceCall((awsRequest, client) -> deleteAccessPolicy(awsRequest, client, logger))
+                    .makeServiceCall((awsRequest, client) -> deleteAccessPolicy(awsRequest, client, request, logger))
                     .done(awsResponse -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     private DeleteAccessPolicyResponse deleteAccessPolicy(
             final DeleteAccessPolicyRequest deleteAccessPolicyRequest,
             final ProxyClient<OpenSearchServerlessClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
             final Logger logger) {
         DeleteAccessPolicyResponse deleteAccessPolicyResponse;
         try {
@@ -66,6 +66,8 @@ public class DeleteHandler extends BaseHandlerStd {
             throw new CfnInvalidRequestException(deleteAccessPolicyRequest.toString() + ", " + e.getMessage(), e);
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("DeleteAccessPolicy", e);
+        } finally {
+            ACCESS_POLICY_VERSIONS.remove(request, Translator.getResourceIdentifier(request.getDesiredResourceState()));
         }
         logger.log(String.format("%s successfully deleted. response: %s", ResourceModel.TYPE_NAME, deleteAccessPolicyResponse));
         return deleteAccessPolicyResponse;
@@ -1,10 +1,14 @@
 package software.amazon.opensearchserverless.accesspolicy;
 
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.AccessPolicyType;
+import software.amazon.awssdk.services.opensearchserverless.model.GetAccessPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListAccessPoliciesRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListAccessPoliciesResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -12,11 +16,26 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
-import com.amazonaws.util.StringUtils;
-
+/**
+ * Lists the access policies of a type, or of every type with {@link MultiTypeListing} when the request names none.
+ * The page is returned with the full models read by {@link ListHydrator}, so that the resources listed need not be read one by one.
+ * <p>
+ * The types of a list request that names none are listed at once on the async client, without a thread per type.
+ */
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Types listed when the request names none.
+     */
+    static final List<String> TYPES = AccessPolicyType.knownValues().stream()
+            .map(AccessPolicyType::toString)
+            .sorted()
+            .collect(Collectors.toList());
+
     public ListHandler() {
         super();
     }
@@ -25,6 +44,10 @@ public class ListHandler extends BaseHandlerStd {
         super(openSearchServerlessClient);
     }
 
+    ListHandler(OpenSearchServerlessClient openSearchServerlessClient, OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient) {
+        super(openSearchServerlessClient, openSearchServerlessAsyncClient);
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -34,20 +57,55 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-
-        if(StringUtils.isNullOrEmpty(model.getType())) {
-            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Type cannot be empty");
+        final Optional<ProxyClient<OpenSearchServerlessAsyncClient>> asyncProxyClient = newAsyncProxyClient(proxy);
+        final MultiTypeListing.Page page;
+        if (model != null && !StringUtils.isEmpty(model.getType())) {
+            page = listAccessPolicies(proxy, proxyClient, model, request.getNextToken());
+        } else if (asyncProxyClient.isPresent()) {
+            page = MultiTypeListing.listAsync(request.getNextToken(), TYPES, (type, cursor) ->
+                    listAccessPoliciesAsync(asyncProxyClient.get(), ResourceModel.builder().type(type).build(), cursor));
+        } else {
+            page = MultiTypeListing.list(request.getNextToken(), TYPES, (type, cursor) ->
+                    listAccessPolicies(proxy, proxyClient, ResourceModel.builder().type(type).build(), cursor));
         }
-
-        final ListAccessPoliciesRequest listAccessPoliciesRequest = Translator.translateToListRequest(model, request.getNextToken());
-        final ListAccessPoliciesResponse listAccessPoliciesResponse = proxy.injectCredentialsAndInvokeV2(listAccessPoliciesRequest, proxyClient.client()::listAccessPolicies);
-        String nextToken = listAccessPoliciesResponse.nextToken();
-        final List<ResourceModel> models = Translator.translateFromListRequest(listAccessPoliciesResponse);
+        final List<ResourceModel> models = ListHydrator.INSTANCE.hydrate(page.getModels(),
+                listedModel -> getAccessPolicy(listedModel, proxyClient), logger);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                             .resourceModels(models)
-                            .nextToken(nextToken)
+                            .nextToken(page.getNextToken())
                             .status(OperationStatus.SUCCESS)
                             .build();
     }
+
+    private MultiTypeListing.Page listAccessPolicies(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<OpenSearchServerlessClient> proxyClient,
+            final ResourceModel model,
+            final String nextToken) {
+        final ListAccessPoliciesRequest listAccessPoliciesRequest = Translator.translateToListRequest(model, nextToken);
+        final ListAccessPoliciesResponse listAccessPoliciesResponse = proxy.injectCredentialsAndInvokeV2(listAccessPoliciesRequest, proxyClient.client()::listAccessPolicies);
+        return new MultiTypeListing.Page(Translator.translateFromListRequest(listAccessPoliciesResponse), listAccessPoliciesResponse.nextToken());
+    }
+
+    private static CompletableFuture<MultiTypeListing.Page> listAccessPoliciesAsync(
+            final ProxyClient<OpenSearchServerlessAsyncClient> asyncProxyClient,
+            final ResourceModel model,
+            final String nextToken) {
+        return asyncProxyClient.injectCredentialsAndInvokeV2Async(Translator.translateToListRequest(model, nextToken),
+                        asyncProxyClient.client()::listAccessPolicies)
+                .thenApply(response -> new MultiTypeListing.Page(Translator.translateFromListRequest(response), response.nextToken()));
+    }
+
+    private Optional<ResourceModel> getAccessPolicy(
+            final ResourceModel listedModel,
+            final ProxyClient<OpenSearchServerlessClient> proxyClient) {
+        final GetAccessPolicyRequest getAccessPolicyRequest = Translator.translateToReadRequest(listedModel);
+        try {
+            return Optional.of(Translator.translateFromReadResponse(
+                    proxyClient.injectCredentialsAndInvokeV2(getAccessPolicyRequest, proxyClient.client()::getAccessPolicy)));
+        } catch (ResourceNotFoundException e) {
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,139 @@
+package software.amazon.opensearchserverless.accesspolicy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.Logger;
+
+import lombok.NonNull;
+
+/**
+ * Reads the full models of a page of listed resources with concurrent Get calls, as the service has no batch read of
+ * the policies.
+ * <p>
+ * The calls are made on a pool of {@link #CONCURRENCY} daemon threads, built with the hydrator and shared by the pages
+ * of all the invocations of the container. No call is started after the first throttled call or once
+ * {@link #TIME_BUDGET} has passed. The items not read are deferred: they are returned as listed, in their place in the
+ * page, for the caller to read them later. The items found to be deleted since they were listed are left out.
+ */
+final class ListHydrator {
+
+    /**
+     * Get calls made at once to read the full models of a page.
+     */
+    static final int CONCURRENCY = 8;
+    /**
+     * Time the reads of the full models of a page may take, the items not read by then are deferred.
+     */
+    static final Duration TIME_BUDGET = Duration.ofSeconds(30);
+
+    static final ListHydrator INSTANCE = new ListHydrator(CONCURRENCY, TIME_BUDGET, System::currentTimeMillis);
+
+    private final ExecutorService executor;
+    private final Duration timeBudget;
+    private final LongSupplier clock;
+
+    /**
+     * @param concurrency calls made at once
+     * @param timeBudget  time the reads of a page may take
+     * @param clock       the clock, in milliseconds
+     */
+    ListHydrator(final int concurrency, final @NonNull Duration timeBudget, final @NonNull LongSupplier clock) {
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "list-hydrator-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timeBudget = timeBudget;
+        this.clock = clock;
+    }
+
+    /**
+     * @param items  the listed items, in page order
+     * @param read   reads the full model of an item, empty if it no longer exists
+     * @param logger the logger
+     * @param <T>    the type of the items
+     * @return the full models of the items read and the deferred items as listed, in page order
+     */
+    <T> List<T> hydrate(final @NonNull List<T> items, final @NonNull Function<T, Optional<T>> read, final Logger logger) {
+        if (items.isEmpty()) {
+            return items;
+        }
+        final long deadlineMillis = clock.getAsLong() + timeBudget.toMillis();
+        final AtomicBoolean throttled = new AtomicBoolean();
+        final List<Future<Optional<Optional<T>>>> reads = new ArrayList<>(items.size());
+        final List<T> hydratedItems = new ArrayList<>(items.size());
+        int hydrated = 0;
+        int deferred = 0;
+        try {
+            for (final T item : items) {
+                reads.add(executor.submit(() -> {
+                    if (throttled.get() || clock.getAsLong() >= deadlineMillis) {
+                        return Optional.empty();
+                    }
+                    try {
+                        return Optional.of(read.apply(item));
+                    } catch (AwsServiceException | CfnThrottlingException e) {
+                        if (!ErrorClassifier.isThrottling(e)) {
+                            throw e;
+                        }
+                        throttled.set(true);
+                        return Optional.empty();
+                    }
+                }));
+            }
+            for (int i = 0; i < items.size(); i++) {
+                // empty if the read was deferred, else the result of the read
+                final Optional<Optional<T>> result = await(reads.get(i), deadlineMillis, logger);
+                if (result.isPresent()) {
+                    result.get().ifPresent(hydratedItems::add);
+                    hydrated++;
+                } else {
+                    hydratedItems.add(items.get(i));
+                    deferred++;
+                }
+            }
+        } finally {
+            // the reads not awaited are not left running on the shared pool
+            reads.forEach(pending -> pending.cancel(true));
+        }
+        if (logger != null) {
+            logger.log(String.format("%s list page of %d read [hydrated=%d, deferred=%d, throttled=%s]",
+                ResourceModel.TYPE_NAME, items.size(), hydrated, deferred, throttled.get()));
+        }
+        return hydratedItems;
+    }
+
+    private <R> Optional<R> await(final Future<Optional<R>> read, final long deadlineMillis, final Logger logger) {
+        try {
+            return read.get(Math.max(0, deadlineMillis - clock.getAsLong()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            read.cancel(true);
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            if (logger != null) {
+                logger.log(String.format("%s list read deferred: %s", ResourceModel.TYPE_NAME, e.getCause()));
+            }
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            read.cancel(true);
+            return Optional.empty();
+        }
+    }
+}
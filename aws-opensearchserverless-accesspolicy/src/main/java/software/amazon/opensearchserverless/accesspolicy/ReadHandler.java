@@ -1,12 +1,12 @@
 package software.amazon.opensearchserverless.accesspolicy;
 
-import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.GetAccessPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.GetAccessPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -17,6 +17,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.opensearchserverless.accesspolicy.Translator.getResourceIdentifierForGetAccessPolicyRequest;
+
 public class ReadHandler extends BaseHandlerStd {
 
     public ReadHandler() {
@@ -33,23 +35,24 @@ public class ReadHandler extends BaseHandlerStd {
             final Logger logger) {
 
         ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Name cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Type cannot be empty");
         }
 
         return proxy.initiate("AWS-OpenSearchServerless-AccessPolicy::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
                     .translateToServiceRequest(Translator::translateToReadRequest)
-                    .makeServiceCall((awsRequest, client) -> getAccessPolicy(awsRequest, client, logger))
+                    .makeServiceCall((awsRequest, client) -> getAccessPolicy(awsRequest, client, request, logger))
                     .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(awsResponse)));
     }
 
     private GetAccessPolicyResponse getAccessPolicy(
             final GetAccessPolicyRequest getAccessPolicyRequest,
             final ProxyClient<OpenSearchServerlessClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
             final Logger logger) {
 
         GetAccessPolicyResponse getAccessPolicyResponse;
@@ -64,6 +67,8 @@ public class ReadHandler extends BaseHandlerStd {
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("GetAccessPolicy", e);
         }
+        ACCESS_POLICY_VERSIONS.put(request, getResourceIdentifierForGetAccessPolicyRequest(getAccessPolicyRequest),
+                getAccessPolicyResponse.accessPolicyDetail());
         logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
         return getAccessPolicyResponse;
     }
@@ -1,5 +1,6 @@
 package software.amazon.opensearchserverless.accesspolicy;
 
+import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.opensearchserverless.model.AccessPolicyDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.AccessPolicySummary;
 import software.amazon.awssdk.services.opensearchserverless.model.CreateAccessPolicyRequest;
@@ -12,14 +13,19 @@ import software.amazon.awssdk.services.opensearchserverless.model.ListAccessPoli
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateAccessPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateAccessPolicyResponse;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class Translator {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     /**
      * Request to create access policy
      *
@@ -139,6 +145,32 @@ public class Translator {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Whether the desired state differs from the current access policy. Properties left unset in the model are not
+     * updated, and policies are compared as parsed JSON so that formatting and key order are not seen as changes.
+     *
+     * @param model resource model
+     * @param currentAccessPolicyDetail the current access policy
+     * @return true if an update call is needed
+     */
+    static boolean isUpdateRequired(final ResourceModel model, final AccessPolicyDetail currentAccessPolicyDetail) {
+        final String currentDescription = Optional.ofNullable(currentAccessPolicyDetail.description()).orElse("");
+        return (model.getDescription() != null && !model.getDescription().equals(currentDescription))
+            || (model.getPolicy() != null && !isSamePolicy(model.getPolicy(), currentAccessPolicyDetail.policy()));
+    }
+
+    private static boolean isSamePolicy(final String policy, final Document currentPolicy) {
+        if (currentPolicy == null) {
+            return false;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(policy).equals(OBJECT_MAPPER.readTree(currentPolicy.toString()));
+        } catch (IOException e) {
+            // not valid JSON, let the service validate it
+            return false;
+        }
+    }
+
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection).stream().flatMap(Collection::stream);
     }
@@ -150,7 +182,7 @@ public class Translator {
             .description(accessPolicySummary.description())
             .build();
     }
-    private static ResourceModel translateAccessPolicyDetailFromSDK(AccessPolicyDetail accessPolicyDetail) {
+    static ResourceModel translateAccessPolicyDetailFromSDK(AccessPolicyDetail accessPolicyDetail) {
         return ResourceModel.builder()
                 .type(accessPolicyDetail.typeAsString())
                 .name(accessPolicyDetail.name())
@@ -164,6 +196,10 @@ public class Translator {
         return String.format("%s|%s", updateAccessPolicyRequest.typeAsString(), updateAccessPolicyRequest.name());
     }
 
+    static String getResourceIdentifier(final ResourceModel model) {
+        return String.format("%s|%s", model.getType(), model.getName());
+    }
+
     static String getResourceIdentifierForGetAccessPolicyRequest(
         final GetAccessPolicyRequest getAccessPolicyRequest) {
         return String.format("%s|%s", getAccessPolicyRequest.typeAsString(), getAccessPolicyRequest.name());
@@ -3,6 +3,7 @@ package software.amazon.opensearchserverless.accesspolicy;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.AccessPolicyDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.ConflictException;
 import software.amazon.awssdk.services.opensearchserverless.model.GetAccessPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.GetAccessPolicyResponse;
@@ -12,6 +13,7 @@ import software.amazon.awssdk.services.opensearchserverless.model.ServiceQuotaEx
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateAccessPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateAccessPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -26,8 +28,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import com.amazonaws.util.StringUtils;
-
 import static software.amazon.opensearchserverless.accesspolicy.Translator.getResourceIdentifierForGetAccessPolicyRequest;
 import static software.amazon.opensearchserverless.accesspolicy.Translator.getResourceIdentifierForUpdateAccessPolicyRequest;
 
@@ -49,27 +49,39 @@ public class UpdateHandler extends BaseHandlerStd {
         final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-        if(StringUtils.isNullOrEmpty(model.getType())) {
+        if(StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Type cannot be empty");
         }
 
-        if(StringUtils.isNullOrEmpty(model.getName())) {
+        if(StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Name cannot be empty");
         }
 
-        if(StringUtils.isNullOrEmpty(model.getDescription()) && StringUtils.isNullOrEmpty(model.getPolicy())) {
+        if(StringUtils.isEmpty(model.getDescription()) && StringUtils.isEmpty(model.getPolicy())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "One of Description or Policy is required");
         }
 
+        // update optimistically with the version the container last read or wrote, when that version already needs an
+        // update, instead of reading the policy first; the service still fails an update of a missing policy
+        final String resourceId = Translator.getResourceIdentifier(model);
+        final AccessPolicyDetail knownAccessPolicyDetail = ACCESS_POLICY_VERSIONS.get(request, resourceId);
+        final boolean optimistic = knownAccessPolicyDetail != null && knownAccessPolicyDetail.policyVersion() != null
+            && Translator.isUpdateRequired(model, knownAccessPolicyDetail);
+        if (optimistic) {
+            logger.log(String.format("%s has a known policy version %s, skipping the read before update", ResourceModel.TYPE_NAME,
+                knownAccessPolicyDetail.policyVersion()));
+            callbackContext.setCurrentAccessPolicyDetail(knownAccessPolicyDetail);
+        }
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             // STEP 1 [check if resource already exists]
             // for more information ->
             // https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
             // if target API does not support 'ResourceNotFoundException' then following check is required
-            .then(progress ->
+            .then(progress -> optimistic ? progress :
                 // STEP 1.0 [initialize a proxy context]
                 // If your service API does not return ResourceNotFoundException
                 // on update requests against some identifier (e.g; resource Name)
@@ -89,12 +101,22 @@ public class UpdateHandler extends BaseHandlerStd {
                         // If describe request does not return ResourceNotFoundException,
                         // you must throw ResourceNotFoundException based on
                         // awsResponse values
-                        GetAccessPolicyResponse awsResponse = getAccessPolicy(awsRequest, client, logger);
+                        GetAccessPolicyResponse awsResponse = getAccessPolicy(awsRequest, client, request, logger);
                         callbackContext.setCurrentAccessPolicyDetail(awsResponse.accessPolicyDetail());
                         return awsResponse;
                     })
                     .progress()
             )
+            .then(progress -> {
+                // skip the update call, and the version bump that comes with it, when the policy as just read from the
+                // service already is in the desired state; never on the known version, which is only a cached detail
+                if (optimistic || Translator.isUpdateRequired(progress.getResourceModel(), callbackContext.getCurrentAccessPolicyDetail())) {
+                    return progress;
+                }
+                logger.log(String.format("%s is already in the desired state, skipping update", ResourceModel.TYPE_NAME));
+                return ProgressEvent.defaultSuccessHandler(
+                    Translator.translateAccessPolicyDetailFromSDK(callbackContext.getCurrentAccessPolicyDetail()));
+            })
             .then(progress ->
                 // STEP 2.0 [initialize a proxy context]
                 // Implement client invocation of the update request through the proxyClient,
@@ -104,14 +126,52 @@ public class UpdateHandler extends BaseHandlerStd {
                         proxyClient, request.getDesiredResourceState(), callbackContext)
                     .translateToServiceRequest(resourceModel -> Translator.translateToUpdateRequest(resourceModel,
                         callbackContext.getCurrentAccessPolicyDetail()))
-                    .makeServiceCall((awsRequest, client) -> updateAccessPolicy(awsRequest, client, logger))
+                    .makeServiceCall((awsRequest, client) -> optimistic
+                        ? updateAccessPolicyWithKnownVersion(awsRequest, client, request, callbackContext, logger)
+                        : updateAccessPolicy(awsRequest, client, request, logger))
                     .done(awsResponse -> ProgressEvent.defaultSuccessHandler(
                         Translator.translateFromUpdateResponse(awsResponse))));
     }
 
+    /**
+     * Update with the policy version the container last read or wrote. A stale version fails with a conflict, the
+     * policy is then read and, if it still needs the update, updated once more with its current version.
+     *
+     * @param updateAccessPolicyRequest the aws service request to update the access policy, with the known version
+     * @param proxyClient               the aws service client to make the call
+     * @param request                   the handler request
+     * @param callbackContext           the callback context, holding the current access policy detail
+     * @param logger                    the logger
+     * @return the aws service response
+     */
+    private UpdateAccessPolicyResponse updateAccessPolicyWithKnownVersion(
+            final UpdateAccessPolicyRequest updateAccessPolicyRequest,
+            final ProxyClient<OpenSearchServerlessClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+        try {
+            return updateAccessPolicy(updateAccessPolicyRequest, proxyClient, request, logger);
+        } catch (CfnResourceConflictException e) {
+            logger.log(String.format("%s policy version %s is stale, reading the access policy",
+                ResourceModel.TYPE_NAME, updateAccessPolicyRequest.policyVersion()));
+        }
+        final AccessPolicyDetail currentAccessPolicyDetail = getAccessPolicy(
+            Translator.translateToReadRequest(request.getDesiredResourceState()), proxyClient, request, logger)
+            .accessPolicyDetail();
+        callbackContext.setCurrentAccessPolicyDetail(currentAccessPolicyDetail);
+        if (!Translator.isUpdateRequired(request.getDesiredResourceState(), currentAccessPolicyDetail)) {
+            logger.log(String.format("%s is already in the desired state, skipping update", ResourceModel.TYPE_NAME));
+            return UpdateAccessPolicyResponse.builder().accessPolicyDetail(currentAccessPolicyDetail).build();
+        }
+        return updateAccessPolicy(Translator.translateToUpdateRequest(request.getDesiredResourceState(),
+            currentAccessPolicyDetail), proxyClient, request, logger);
+    }
+
     private UpdateAccessPolicyResponse updateAccessPolicy(
             final UpdateAccessPolicyRequest updateAccessPolicyRequest,
             final ProxyClient<OpenSearchServerlessClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
             final Logger logger) {
         UpdateAccessPolicyResponse updateAccessPolicyResponse;
         try {
@@ -124,6 +184,7 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (ValidationException e) {
             throw new CfnInvalidRequestException(updateAccessPolicyRequest.toString(), e);
         } catch (ConflictException e) {
+            ACCESS_POLICY_VERSIONS.remove(request, getResourceIdentifierForUpdateAccessPolicyRequest(updateAccessPolicyRequest));
             throw new CfnResourceConflictException(ResourceModel.TYPE_NAME,
                 getResourceIdentifierForUpdateAccessPolicyRequest(updateAccessPolicyRequest),
                 e.getMessage(),
@@ -135,6 +196,8 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (AwsServiceException e) {
             throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME, e);
         }
+        ACCESS_POLICY_VERSIONS.put(request, getResourceIdentifierForUpdateAccessPolicyRequest(updateAccessPolicyRequest),
+            updateAccessPolicyResponse.accessPolicyDetail());
         logger.log(String.format("%s successfully updated for %s", ResourceModel.TYPE_NAME, updateAccessPolicyRequest));
         return updateAccessPolicyResponse;
     }
@@ -142,11 +205,13 @@ public class UpdateHandler extends BaseHandlerStd {
     private GetAccessPolicyResponse getAccessPolicy(
         final GetAccessPolicyRequest getAccessPolicyRequest,
         final ProxyClient<OpenSearchServerlessClient> proxyClient,
+        final ResourceHandlerRequest<ResourceModel> request,
         final Logger logger) {
 
         GetAccessPolicyResponse getAccessPolicyResponse;
         try {
             logger.log(String.format("Sending get access policy request: %s", getAccessPolicyRequest));
+            // read through to the service, a cached detail may be stale and must not decide whether to update
             getAccessPolicyResponse = proxyClient.injectCredentialsAndInvokeV2(getAccessPolicyRequest,
                 proxyClient.client()::getAccessPolicy);
         } catch (ResourceNotFoundException e) {
@@ -160,6 +225,8 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (final AwsServiceException e) {
             throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME, e);
         }
+        ACCESS_POLICY_VERSIONS.put(request, getResourceIdentifierForGetAccessPolicyRequest(getAccessPolicyRequest),
+            getAccessPolicyResponse.accessPolicyDetail());
         logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
         return getAccessPolicyResponse;
     }
@@ -0,0 +1,98 @@
+package software.amazon.opensearchserverless.accesspolicy;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.GetAccountSettingsRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.GetAccountSettingsResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.OpenSearchServerlessException;
+import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ErrorClassifierTest extends AbstractTestBase {
+
+    private static final GetAccountSettingsRequest REQUEST = GetAccountSettingsRequest.builder().build();
+
+    private ProxyClient<OpenSearchServerlessClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxyClient = ErrorClassifier.classifyErrors(MOCK_PROXY(new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
+            () -> Duration.ofSeconds(600).toMillis()), null));
+    }
+
+    @Test
+    public void classify_Throttling_ThrottlingException() {
+        final RuntimeException exception = ErrorClassifier.classify(REQUEST, throttlingException());
+
+        assertThat(exception).isInstanceOf(CfnThrottlingException.class);
+        assertThat(((CfnThrottlingException) exception).getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(exception.getMessage()).contains("GetAccountSettings");
+        assertThat(ErrorClassifier.isThrottling(exception)).isTrue();
+    }
+
+    @Test
+    public void classify_OtherErrors_Unchanged() {
+        final ValidationException validationException = ValidationException.builder().statusCode(400).build();
+
+        assertThat(ErrorClassifier.classify(REQUEST, validationException)).isSameAs(validationException);
+        assertThat(ErrorClassifier.isThrottling(validationException)).isFalse();
+    }
+
+    @Test
+    public void classifyErrors_ThrottledCall_ThrowsThrottlingException() {
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(REQUEST, awsRequest -> {
+            throw throttlingException();
+        })).isInstanceOf(CfnThrottlingException.class);
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(REQUEST, awsRequest -> {
+            throw ValidationException.builder().statusCode(400).build();
+        })).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    public void classifyErrors_ThrottledAsyncCall_CompletesWithThrottlingException() {
+        final CompletableFuture<GetAccountSettingsResponse> response = proxyClient.injectCredentialsAndInvokeV2Async(REQUEST,
+            awsRequest -> CompletableFuture.supplyAsync(() -> {
+                throw throttlingException();
+            }));
+
+        assertThatThrownBy(response::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(CfnThrottlingException.class);
+    }
+
+    @Test
+    public void classifyErrors_ThrottledStreamingAndPaginatedCalls_ThrowThrottlingException() {
+        assertThatThrownBy(() -> proxyClient.<GetAccountSettingsRequest, GetAccountSettingsResponse>injectCredentialsAndInvokeV2Bytes(
+            REQUEST, awsRequest -> {
+                throw throttlingException();
+            })).isInstanceOf(CfnThrottlingException.class);
+        assertThatThrownBy(() -> proxyClient.<GetAccountSettingsRequest, GetAccountSettingsResponse>injectCredentialsAndInvokeV2InputStream(
+            REQUEST, awsRequest -> {
+                throw throttlingException();
+            })).isInstanceOf(CfnThrottlingException.class);
+        assertThatThrownBy(() -> proxyClient.<GetAccountSettingsRequest, GetAccountSettingsResponse,
+            SdkIterable<GetAccountSettingsResponse>>injectCredentialsAndInvokeIterableV2(REQUEST, awsRequest -> {
+                throw throttlingException();
+            })).isInstanceOf(CfnThrottlingException.class);
+    }
+
+    private static OpenSearchServerlessException throttlingException() {
+        return (OpenSearchServerlessException) OpenSearchServerlessException.builder()
+            .statusCode(400)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").errorMessage("Rate exceeded").build())
+            .build();
+    }
+}
@@ -1,10 +1,16 @@
 package software.amazon.opensearchserverless.accesspolicy;
 
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.AccessPolicyDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.AccessPolicySummary;
 import software.amazon.awssdk.services.opensearchserverless.model.AccessPolicyType;
 import software.amazon.awssdk.services.opensearchserverless.model.ListAccessPoliciesRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.GetAccessPolicyRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.GetAccessPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.ListAccessPoliciesResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -14,14 +20,20 @@ import com.google.common.collect.ImmutableList;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +55,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_SimpleSuccess() {
+        stubGetAccessPolicy();
         final ListHandler handler = new ListHandler(openSearchServerlessClient);
 
         final Collection<AccessPolicySummary> accessPolicySummaries = ImmutableList.of(
@@ -67,4 +80,105 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_FullModels_ReadsListedPolicies() {
+        final ListHandler handler = new ListHandler(openSearchServerlessClient);
+
+        final Collection<AccessPolicySummary> accessPolicySummaries = ImmutableList.of(
+            AccessPolicySummary.builder().type(MOCK_ACCESS_POLICY_TYPE).name(MOCK_ACCESS_POLICY_NAME_1).build(),
+            AccessPolicySummary.builder().type(MOCK_ACCESS_POLICY_TYPE).name(MOCK_ACCESS_POLICY_NAME_2).build(),
+            AccessPolicySummary.builder().type(MOCK_ACCESS_POLICY_TYPE).name("policy-name-3").build()
+        );
+        when(openSearchServerlessClient.listAccessPolicies(any(ListAccessPoliciesRequest.class)))
+            .thenReturn(ListAccessPoliciesResponse.builder().accessPolicySummaries(accessPolicySummaries).build());
+        when(openSearchServerlessClient.getAccessPolicy(any(GetAccessPolicyRequest.class))).thenAnswer(invocation -> {
+            final GetAccessPolicyRequest getAccessPolicyRequest = invocation.getArgument(0, GetAccessPolicyRequest.class);
+            if (getAccessPolicyRequest.name().equals(MOCK_ACCESS_POLICY_NAME_2)) {
+                throw ResourceNotFoundException.builder().build();
+            }
+            return GetAccessPolicyResponse.builder()
+                .accessPolicyDetail(AccessPolicyDetail.builder()
+                    .type(getAccessPolicyRequest.type())
+                    .name(getAccessPolicyRequest.name())
+                    .policy(Document.fromString("policy"))
+                    .build())
+                .build();
+        });
+
+        final ResourceModel model = ResourceModel.builder().type(MOCK_ACCESS_POLICY_TYPE).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getName)
+            .containsExactly(MOCK_ACCESS_POLICY_NAME_1, "policy-name-3");
+        assertThat(response.getResourceModels()).allSatisfy(resourceModel -> assertThat(resourceModel.getPolicy()).isNotNull());
+
+        verify(openSearchServerlessClient, times(3)).getAccessPolicy(any(GetAccessPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WithoutType_ListsEveryType() {
+        stubGetAccessPolicy();
+        final ListHandler handler = new ListHandler(openSearchServerlessClient);
+
+        final ListAccessPoliciesResponse listAccessPoliciesResponse = ListAccessPoliciesResponse.builder()
+            .accessPolicySummaries(AccessPolicySummary.builder().type(MOCK_ACCESS_POLICY_TYPE).name(MOCK_ACCESS_POLICY_NAME_1).build())
+            .nextToken("data-token")
+            .build();
+        when(openSearchServerlessClient.listAccessPolicies(any(ListAccessPoliciesRequest.class))).thenReturn(listAccessPoliciesResponse);
+
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getName).containsExactly(MOCK_ACCESS_POLICY_NAME_1);
+        assertThat(MultiTypeListing.decode(response.getNextToken(), ListHandler.TYPES))
+            .containsExactly(Map.entry(AccessPolicyType.DATA.toString(), "data-token"));
+
+        final ArgumentCaptor<ListAccessPoliciesRequest> captor = ArgumentCaptor.forClass(ListAccessPoliciesRequest.class);
+        verify(openSearchServerlessClient).listAccessPolicies(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(AccessPolicyType.DATA);
+    }
+
+    @Test
+    public void handleRequest_AsyncClient_ListsEveryTypeAtOnce() {
+        stubGetAccessPolicy();
+        final OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient = mock(OpenSearchServerlessAsyncClient.class);
+        final ListHandler handler = new ListHandler(openSearchServerlessClient, openSearchServerlessAsyncClient);
+        when(openSearchServerlessAsyncClient.listAccessPolicies(any(ListAccessPoliciesRequest.class))).thenAnswer(invocation -> {
+            final String type = invocation.getArgument(0, ListAccessPoliciesRequest.class).typeAsString();
+            return CompletableFuture.completedFuture(ListAccessPoliciesResponse.builder()
+                .accessPolicySummaries(AccessPolicySummary.builder().name(type + "-1").type(type).build())
+                .build());
+        });
+
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build()).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getType).containsExactlyElementsOf(ListHandler.TYPES);
+        assertThat(response.getNextToken()).isNull();
+        verify(openSearchServerlessAsyncClient, times(ListHandler.TYPES.size())).listAccessPolicies(any(ListAccessPoliciesRequest.class));
+        verify(openSearchServerlessClient, never()).listAccessPolicies(any(ListAccessPoliciesRequest.class));
+    }
+
+    private void stubGetAccessPolicy() {
+        when(openSearchServerlessClient.getAccessPolicy(any(GetAccessPolicyRequest.class))).thenAnswer(invocation -> {
+            final GetAccessPolicyRequest getAccessPolicyRequest = invocation.getArgument(0, GetAccessPolicyRequest.class);
+            return GetAccessPolicyResponse.builder()
+                .accessPolicyDetail(AccessPolicyDetail.builder()
+                    .type(getAccessPolicyRequest.type())
+                    .name(getAccessPolicyRequest.name())
+                    .policy(Document.fromString("policy"))
+                    .build())
+                .build();
+        });
+    }
 }
@@ -0,0 +1,116 @@
+package software.amazon.opensearchserverless.accesspolicy;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ListHydratorTest extends AbstractTestBase {
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @Test
+    public void hydrate_ReusesThreadsAcrossPages() {
+        final ListHydrator listHydrator = new ListHydrator(2, Duration.ofSeconds(10), System::currentTimeMillis);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        for (int page = 0; page < 3; page++) {
+            final List<String> items = Arrays.asList("a", "b", "c", "d");
+            assertThat(listHydrator.hydrate(items, item -> {
+                threads.add(Thread.currentThread().getName());
+                return read(item);
+            }, logger)).containsExactly("a-full", "b-full", "c-full", "d-full");
+        }
+
+        assertThat(threads).hasSizeLessThanOrEqualTo(2);
+        assertThat(reads.get()).isEqualTo(12);
+    }
+
+    @Test
+    public void hydrate_PreservesPageOrder_AndLeavesOutDeletedItems() {
+        final ListHydrator listHydrator = new ListHydrator(4, Duration.ofSeconds(10), System::currentTimeMillis);
+        final List<String> items = IntStream.range(0, 20).mapToObj(i -> "item-" + i).collect(Collectors.toList());
+
+        final List<String> hydrated = listHydrator.hydrate(items, item -> {
+            sleep((long) (Math.random() * 20));
+            return item.equals("item-5") ? Optional.empty() : read(item);
+        }, logger);
+
+        assertThat(hydrated).hasSize(items.size() - 1);
+        assertThat(hydrated).isEqualTo(items.stream()
+            .filter(item -> !item.equals("item-5"))
+            .map(item -> item + "-full")
+            .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void hydrate_DefersItemsNotReadWithinTimeBudget() {
+        final AtomicLong now = new AtomicLong();
+        final ListHydrator listHydrator = new ListHydrator(1, Duration.ofMillis(500), now::get);
+        final List<String> items = Arrays.asList("a", "b", "c", "d");
+
+        final List<String> hydrated = listHydrator.hydrate(items, item -> {
+            now.addAndGet(600);
+            return read(item);
+        }, logger);
+
+        assertThat(hydrated).containsExactly("a-full", "b", "c", "d");
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void hydrate_StopsReadingWhenThrottled() {
+        final ListHydrator listHydrator = new ListHydrator(1, Duration.ofSeconds(10), System::currentTimeMillis);
+        final List<String> items = Arrays.asList("a", "b", "c", "d");
+
+        final List<String> hydrated = listHydrator.hydrate(items, item -> {
+            if (item.equals("b")) {
+                throw AwsServiceException.builder().statusCode(429).build();
+            }
+            return read(item);
+        }, logger);
+
+        assertThat(hydrated).containsExactly("a-full", "b", "c", "d");
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void hydrate_DefersFailedReads() {
+        final ListHydrator listHydrator = new ListHydrator(2, Duration.ofSeconds(10), System::currentTimeMillis);
+        final List<String> items = Arrays.asList("a", "b", "c");
+
+        final List<String> hydrated = listHydrator.hydrate(items, item -> {
+            if (item.equals("b")) {
+                throw AwsServiceException.builder().statusCode(500).build();
+            }
+            return read(item);
+        }, logger);
+
+        assertThat(hydrated).containsExactly("a-full", "b", "c-full");
+    }
+
+    private Optional<String> read(final String item) {
+        reads.incrementAndGet();
+        return Optional.of(item + "-full");
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package software.amazon.opensearchserverless.accesspolicy;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultiTypeListingTest {
+
+    private static final List<String> TYPES = Arrays.asList("type-a", "type-b");
+
+    private final Map<String, String> listedCursors = new ConcurrentHashMap<>();
+
+    @Test
+    public void list_FirstPage_ListsEveryType() {
+        final MultiTypeListing.Page page = MultiTypeListing.list(null, TYPES, (type, cursor) -> {
+            listedCursors.put(type, String.valueOf(cursor));
+            return new MultiTypeListing.Page(
+                Collections.singletonList(ResourceModel.builder().type(type).name(type + "-1").build()),
+                type.equals("type-a") ? "cursor-a" : null);
+        });
+
+        assertThat(listedCursors).containsOnly(Map.entry("type-a", "null"), Map.entry("type-b", "null"));
+        assertThat(page.getModels()).extracting(ResourceModel::getName).containsExactly("type-a-1", "type-b-1");
+        assertThat(MultiTypeListing.decode(page.getNextToken(), TYPES)).containsExactly(Map.entry("type-a", "cursor-a"));
+    }
+
+    @Test
+    public void list_NextPage_ListsOnlyTheTypesWithMorePages() {
+        final Map<String, String> cursors = new LinkedHashMap<>();
+        cursors.put("type-a", "cursor-a");
+
+        final MultiTypeListing.Page page = MultiTypeListing.list(MultiTypeListing.encode(cursors), TYPES, (type, cursor) -> {
+            listedCursors.put(type, cursor);
+            return new MultiTypeListing.Page(Collections.emptyList(), null);
+        });
+
+        assertThat(listedCursors).containsOnly(Map.entry("type-a", "cursor-a"));
+        assertThat(page.getModels()).isEmpty();
+        assertThat(page.getNextToken()).isNull();
+    }
+
+    @Test
+    public void list_FailedType_Throws() {
+        assertThrows(IllegalStateException.class, () -> MultiTypeListing.list(null, TYPES, (type, cursor) -> {
+            if (type.equals("type-b")) {
+                throw new IllegalStateException(type);
+            }
+            return new MultiTypeListing.Page(Collections.emptyList(), null);
+        }));
+    }
+
+    @Test
+    public void listAsync_StartsEveryTypeAtOnce() {
+        final CompletableFuture<Void> started = new CompletableFuture<>();
+        final MultiTypeListing.Page page = MultiTypeListing.listAsync(null, TYPES, (type, cursor) -> {
+            listedCursors.put(type, String.valueOf(cursor));
+            if (listedCursors.size() == TYPES.size()) {
+                started.complete(null);
+            }
+            // the page of the first type completes only once every type is started
+            return started.thenApply(ignored -> new MultiTypeListing.Page(
+                Collections.singletonList(ResourceModel.builder().type(type).name(type + "-1").build()),
+                type.equals("type-a") ? "cursor-a" : null));
+        });
+
+        assertThat(page.getModels()).extracting(ResourceModel::getName).containsExactly("type-a-1", "type-b-1");
+        assertThat(MultiTypeListing.decode(page.getNextToken(), TYPES)).containsExactly(Map.entry("type-a", "cursor-a"));
+    }
+
+    @Test
+    public void listAsync_FailedType_Throws() {
+        assertThrows(IllegalStateException.class, () -> MultiTypeListing.listAsync(null, TYPES, (type, cursor) ->
+            type.equals("type-b")
+                ? CompletableFuture.failedFuture(new IllegalStateException(type))
+                : CompletableFuture.completedFuture(new MultiTypeListing.Page(Collections.emptyList(), null))));
+    }
+
+    @Test
+    public void decode_InvalidToken_Throws() {
+        assertThrows(CfnInvalidRequestException.class, () -> MultiTypeListing.decode("cursor-a", TYPES));
+        assertThrows(CfnInvalidRequestException.class, () -> MultiTypeListing.decode(MultiTypeListing.TOKEN_PREFIX + "%%", TYPES));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
@@ -30,12 +31,15 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -46,6 +50,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     private static final String MOCK_ACCESS_POLICY_TYPE = AccessPolicyType.DATA.name();
     private static final String MOCK_ACCESS_POLICY_NAME = "access-policy-name";
     private static final String MOCK_ACCESS_POLICY_DESCRIPTION = "Access policy description";
+    private static final String MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION = "Previous access policy description";
     private static final Document MOCK_ACCESS_POLICY_DOCUMENT = Document.fromString("Access Policy Document");
 
     private static final String MOCK_ACCESS_POLICY_VERSION = "Mock Access Policy Version";
@@ -55,6 +60,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
+        BaseHandlerStd.ACCESS_POLICY_VERSIONS.clear();
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         openSearchServerlessClient = mock(OpenSearchServerlessClient.class);
         proxyClient = MOCK_PROXY(proxy, openSearchServerlessClient);
@@ -95,7 +101,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                     AccessPolicyDetail.builder()
                         .name(MOCK_ACCESS_POLICY_NAME)
                         .type(MOCK_ACCESS_POLICY_TYPE)
-                        .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+                        .description(MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION)
                         .policy(MOCK_ACCESS_POLICY_DOCUMENT)
                         .policyVersion(MOCK_ACCESS_POLICY_VERSION)
                         .build()
@@ -122,6 +128,113 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_KnownVersion_SkipsRead() {
+        final UpdateHandler handler = new UpdateHandler(openSearchServerlessClient);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(MOCK_ACCESS_POLICY_NAME)
+            .type(MOCK_ACCESS_POLICY_TYPE)
+            .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+            .policy(MOCK_ACCESS_POLICY_DOCUMENT.toString())
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        BaseHandlerStd.ACCESS_POLICY_VERSIONS.put(request, Translator.getResourceIdentifier(model),
+            accessPolicyDetail(MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION, MOCK_ACCESS_POLICY_VERSION));
+
+        when(openSearchServerlessClient.updateAccessPolicy(any(UpdateAccessPolicyRequest.class)))
+            .thenReturn(UpdateAccessPolicyResponse.builder()
+                .accessPolicyDetail(accessPolicyDetail(MOCK_ACCESS_POLICY_DESCRIPTION, "Next Access Policy Version"))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDescription()).isEqualTo(MOCK_ACCESS_POLICY_DESCRIPTION);
+        final ArgumentCaptor<UpdateAccessPolicyRequest> updateAccessPolicyRequestCaptor = ArgumentCaptor.forClass(UpdateAccessPolicyRequest.class);
+        verify(openSearchServerlessClient).updateAccessPolicy(updateAccessPolicyRequestCaptor.capture());
+        assertThat(updateAccessPolicyRequestCaptor.getValue().policyVersion()).isEqualTo(MOCK_ACCESS_POLICY_VERSION);
+        verify(openSearchServerlessClient, never()).getAccessPolicy(any(GetAccessPolicyRequest.class));
+        assertThat(BaseHandlerStd.ACCESS_POLICY_VERSIONS.get(request, Translator.getResourceIdentifier(model)).policyVersion())
+            .isEqualTo("Next Access Policy Version");
+    }
+
+    @Test
+    public void handleRequest_StaleKnownVersion_ReadsAndRetries() {
+        final UpdateHandler handler = new UpdateHandler(openSearchServerlessClient);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(MOCK_ACCESS_POLICY_NAME)
+            .type(MOCK_ACCESS_POLICY_TYPE)
+            .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+            .policy(MOCK_ACCESS_POLICY_DOCUMENT.toString())
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        BaseHandlerStd.ACCESS_POLICY_VERSIONS.put(request, Translator.getResourceIdentifier(model),
+            accessPolicyDetail(MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION, "Stale Access Policy Version"));
+
+        when(openSearchServerlessClient.updateAccessPolicy(any(UpdateAccessPolicyRequest.class)))
+            .thenThrow(ConflictException.builder().message("Policy version mismatch").build())
+            .thenReturn(UpdateAccessPolicyResponse.builder()
+                .accessPolicyDetail(accessPolicyDetail(MOCK_ACCESS_POLICY_DESCRIPTION, "Next Access Policy Version"))
+                .build());
+        when(openSearchServerlessClient.getAccessPolicy(any(GetAccessPolicyRequest.class)))
+            .thenReturn(GetAccessPolicyResponse.builder()
+                .accessPolicyDetail(accessPolicyDetail(MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION, MOCK_ACCESS_POLICY_VERSION))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<UpdateAccessPolicyRequest> updateAccessPolicyRequestCaptor = ArgumentCaptor.forClass(UpdateAccessPolicyRequest.class);
+        verify(openSearchServerlessClient, times(2)).updateAccessPolicy(updateAccessPolicyRequestCaptor.capture());
+        assertThat(updateAccessPolicyRequestCaptor.getAllValues())
+            .extracting(UpdateAccessPolicyRequest::policyVersion)
+            .containsExactly("Stale Access Policy Version", MOCK_ACCESS_POLICY_VERSION);
+        verify(openSearchServerlessClient).getAccessPolicy(any(GetAccessPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoChange_SkipsUpdate() {
+        final UpdateHandler handler = new UpdateHandler(openSearchServerlessClient);
+
+        final Document currentPolicy = Document.fromList(Collections.singletonList(Document.mapBuilder()
+            .putList("Rules", rules -> rules.addMap(rule -> rule
+                .putString("ResourceType", "collection")
+                .putList("Resource", resources -> resources.addString("collection/logs"))))
+            .putString("Description", "policy")
+            .build()));
+        final GetAccessPolicyResponse getResponse =
+            GetAccessPolicyResponse.builder()
+                .accessPolicyDetail(
+                    AccessPolicyDetail.builder()
+                        .name(MOCK_ACCESS_POLICY_NAME)
+                        .type(MOCK_ACCESS_POLICY_TYPE)
+                        .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+                        .policy(currentPolicy)
+                        .policyVersion(MOCK_ACCESS_POLICY_VERSION)
+                        .build()
+                ).build();
+        when(openSearchServerlessClient.getAccessPolicy(any(GetAccessPolicyRequest.class))).thenReturn(getResponse);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(MOCK_ACCESS_POLICY_NAME)
+            .type(MOCK_ACCESS_POLICY_TYPE)
+            .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+            .policy("[ {\"Description\" : \"policy\", \"Rules\" : [ {\"Resource\" : [\"collection/logs\"], \"ResourceType\" : \"collection\"} ]} ]")
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDescription()).isEqualTo(MOCK_ACCESS_POLICY_DESCRIPTION);
+        assertThat(response.getResourceModel().getPolicy()).isEqualTo(currentPolicy.toString());
+
+        verify(openSearchServerlessClient).getAccessPolicy(any(GetAccessPolicyRequest.class));
+        verify(openSearchServerlessClient, never()).updateAccessPolicy(any(UpdateAccessPolicyRequest.class));
+    }
+
     @Test
     public void handleRequest_ResourceNotFoundException_Fail() {
         when(openSearchServerlessClient.updateAccessPolicy(any(UpdateAccessPolicyRequest.class)))
@@ -135,7 +248,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 AccessPolicyDetail.builder()
                                         .name(MOCK_ACCESS_POLICY_NAME)
                                         .type(MOCK_ACCESS_POLICY_TYPE)
-                                        .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+                                        .description(MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_ACCESS_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_ACCESS_POLICY_VERSION)
                                         .build()
@@ -169,7 +282,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 AccessPolicyDetail.builder()
                                         .name(MOCK_ACCESS_POLICY_NAME)
                                         .type(MOCK_ACCESS_POLICY_TYPE)
-                                        .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+                                        .description(MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_ACCESS_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_ACCESS_POLICY_VERSION)
                                         .build()
@@ -203,7 +316,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 AccessPolicyDetail.builder()
                                         .name(MOCK_ACCESS_POLICY_NAME)
                                         .type(MOCK_ACCESS_POLICY_TYPE)
-                                        .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+                                        .description(MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_ACCESS_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_ACCESS_POLICY_VERSION)
                                         .build()
@@ -237,7 +350,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 AccessPolicyDetail.builder()
                                         .name(MOCK_ACCESS_POLICY_NAME)
                                         .type(MOCK_ACCESS_POLICY_TYPE)
-                                        .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+                                        .description(MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_ACCESS_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_ACCESS_POLICY_VERSION)
                                         .build()
@@ -271,7 +384,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 AccessPolicyDetail.builder()
                                         .name(MOCK_ACCESS_POLICY_NAME)
                                         .type(MOCK_ACCESS_POLICY_TYPE)
-                                        .description(MOCK_ACCESS_POLICY_DESCRIPTION)
+                                        .description(MOCK_ACCESS_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_ACCESS_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_ACCESS_POLICY_VERSION)
                                         .build()
@@ -291,4 +404,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(openSearchServerlessClient).updateAccessPolicy(any(UpdateAccessPolicyRequest.class));
     }
+
+    private static AccessPolicyDetail accessPolicyDetail(final String description, final String policyVersion) {
+        return AccessPolicyDetail.builder()
+            .name(MOCK_ACCESS_POLICY_NAME)
+            .type(MOCK_ACCESS_POLICY_TYPE)
+            .description(description)
+            .policy(MOCK_ACCESS_POLICY_DOCUMENT)
+            .policyVersion(policyVersion)
+            .build();
+    }
 }
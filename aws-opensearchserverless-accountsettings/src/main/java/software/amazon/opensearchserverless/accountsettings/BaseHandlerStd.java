@@ -12,6 +12,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected BaseHandlerStd() {
         this(ClientBuilder.getClient());
+        Priming.prime();
     }
 
     protected BaseHandlerStd(OpenSearchServerlessClient openSearchServerlessClient ) {
@@ -32,7 +33,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             proxy,
             request,
             callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(this::getOpenSearchServerlessClient),
+            ErrorClassifier.classifyErrors(proxy.newProxy(this::getOpenSearchServerlessClient)),
             logger);
     }
 
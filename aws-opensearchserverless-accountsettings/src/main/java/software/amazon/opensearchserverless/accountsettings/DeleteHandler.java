@@ -1,8 +1,8 @@
 package software.amazon.opensearchserverless.accountsettings;
 
-import com.amazonaws.util.StringUtils;
 import lombok.NonNull;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.*;
 
 public class DeleteHandler extends BaseHandlerStd {
@@ -25,7 +25,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (!StringUtils.isNullOrEmpty(model.getAccountId())
+        if (!StringUtils.isEmpty(model.getAccountId())
             && !model.getAccountId().equals(request.getAwsAccountId())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, "Resource not found");
         }
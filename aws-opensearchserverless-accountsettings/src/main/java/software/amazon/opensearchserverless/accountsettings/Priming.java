@@ -0,0 +1,64 @@
+package software.amazon.opensearchserverless.accountsettings;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import software.amazon.cloudformation.resource.Serializer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Priming of the handler function, run once while the function initializes, so that the first invocation does not
+ * pay for loading and initializing the client, the translator, the serializer and the resource schema. With Lambda
+ * SnapStart, the primed function is captured in the snapshot.
+ * <p>
+ * Priming makes no service call, so that a restored snapshot holds no connection, and the credentials are those of
+ * each request, so that it holds no credentials either.
+ */
+final class Priming {
+
+    private static final Logger LOG = LogManager.getLogger(Priming.class);
+
+    private static final ResourceModel SYNTHETIC_MODEL = ResourceModel.builder()
+        .capacityLimits(CapacityLimits.builder()
+            .maxIndexingCapacityInOCU(2)
+            .maxSearchCapacityInOCU(2)
+            .build())
+        .build();
+    private static final AtomicBoolean PRIMED = new AtomicBoolean();
+
+    private Priming() {
+    }
+
+    /**
+     * Primes the function once, priming is best effort and a failed step is left to the first invocation.
+     */
+    static void prime() {
+        if (!PRIMED.compareAndSet(false, true)) {
+            return;
+        }
+        step(ClientBuilder::getClient);
+        step(() -> Translator.translateToUpdateRequest(SYNTHETIC_MODEL));
+        step(() -> Translator.translateToReadRequest(SYNTHETIC_MODEL));
+        step(() -> {
+            final Serializer serializer = new Serializer();
+            serializer.deserialize(serializer.serialize(SYNTHETIC_MODEL), new TypeReference<ResourceModel>() {});
+            serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+        });
+        step(() -> new Configuration().resourceSchemaJsonObject());
+    }
+
+    private static void step(final Step step) {
+        try {
+            step.run();
+        } catch (Exception e) {
+            LOG.warn("Priming step failed, left to the first invocation", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws Exception;
+    }
+}
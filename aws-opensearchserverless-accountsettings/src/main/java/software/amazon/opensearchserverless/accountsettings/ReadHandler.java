@@ -1,10 +1,10 @@
 package software.amazon.opensearchserverless.accountsettings;
 
-import com.amazonaws.util.StringUtils;
 import lombok.NonNull;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.*;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -28,7 +28,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (!StringUtils.isNullOrEmpty(model.getAccountId())
+        if (!StringUtils.isEmpty(model.getAccountId())
             && !model.getAccountId().equals(request.getAwsAccountId())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, "Resource not found");
         }
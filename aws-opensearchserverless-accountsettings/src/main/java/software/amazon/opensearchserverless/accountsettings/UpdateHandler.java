@@ -1,12 +1,12 @@
 package software.amazon.opensearchserverless.accountsettings;
 
-import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateAccountSettingsRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateAccountSettingsResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -32,7 +32,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (!StringUtils.isNullOrEmpty(model.getAccountId())
+        if (!StringUtils.isEmpty(model.getAccountId())
             && !model.getAccountId().equals(request.getAwsAccountId())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound,
                 "Resource not found");
@@ -37,7 +37,7 @@ public class AbstractTestBase {
             CompletableFuture<ResponseT>
             injectCredentialsAndInvokeV2Async(RequestT request, Function<RequestT,
                 CompletableFuture<ResponseT>> requestFunction) {
-                throw new UnsupportedOperationException();
+                return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
             }
 
             @Override
@@ -52,14 +52,14 @@ public class AbstractTestBase {
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
             injectCredentialsAndInvokeV2InputStream(RequestT requestT, Function<RequestT,
                 ResponseInputStream<ResponseT>> function) {
-                throw new UnsupportedOperationException();
+                return proxy.injectCredentialsAndInvokeV2InputStream(requestT, function);
             }
 
             @Override
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
             injectCredentialsAndInvokeV2Bytes(RequestT requestT, Function<RequestT,
                 ResponseBytes<ResponseT>> function) {
-                throw new UnsupportedOperationException();
+                return proxy.injectCredentialsAndInvokeV2Bytes(requestT, function);
             }
 
             @Override
@@ -14,6 +14,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.function.Supplier;
+
 import lombok.NonNull;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -23,6 +25,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected BaseHandlerStd() {
         this(ClientBuilder.getClient());
+        Priming.prime();
     }
 
     protected BaseHandlerStd(OpenSearchServerlessClient openSearchServerlessClient ) {
@@ -43,7 +46,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 proxy,
                 request,
                 callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(this::getOpenSearchServerlessClient),
+                ErrorClassifier.classifyErrors(proxy.newProxy(this::getOpenSearchServerlessClient)),
                 logger);
     }
 
@@ -96,4 +99,24 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
         throw exception;
     }
+
+    /**
+     * Returns the resource model translated from the last stabilization poll, so that a stabilized collection is
+     * not read again. Falls back to the given read when no stabilization poll has been recorded.
+     *
+     * @param progress the progress of the call chain
+     * @param read     the read of the collection
+     * @return ProgressEvent
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> stabilizedResult(
+        final @NonNull ProgressEvent<ResourceModel, CallbackContext> progress,
+        final @NonNull Supplier<ProgressEvent<ResourceModel, CallbackContext>> read) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final ResourceModel stabilizedResourceModel = callbackContext.getStabilizedResourceModel();
+        if (stabilizedResourceModel == null) {
+            return read.get();
+        }
+        callbackContext.setStabilizedResourceModel(null);
+        return ProgressEvent.defaultSuccessHandler(stabilizedResourceModel);
+    }
 }
@@ -8,4 +8,8 @@ import lombok.Data;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    /**
+     * Resource model translated from the last stabilization poll, returned instead of reading the collection again.
+     */
+    private ResourceModel stabilizedResourceModel;
 }
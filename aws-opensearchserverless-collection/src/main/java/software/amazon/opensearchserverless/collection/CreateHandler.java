@@ -4,11 +4,16 @@ import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerless
 import software.amazon.awssdk.services.opensearchserverless.model.BatchGetCollectionRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.BatchGetCollectionResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.CollectionDetail;
+import software.amazon.awssdk.services.opensearchserverless.model.CollectionStatus;
 import software.amazon.awssdk.services.opensearchserverless.model.ConflictException;
+import software.amazon.awssdk.services.opensearchserverless.model.CreateCollectionDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.CreateCollectionRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.CreateCollectionResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
+import software.amazon.awssdk.services.opensearchserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.Tag;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -19,17 +24,25 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import com.google.common.collect.Maps;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
-import com.amazonaws.util.StringUtils;
 import lombok.NonNull;
 
 
 public class CreateHandler extends BaseHandlerStd {
+    /**
+     * System tags of CloudFormation that name the stack and the logical resource a collection was created for.
+     */
+    static final List<String> STACK_TAGS = Arrays.asList("aws:cloudformation:stack-id", "aws:cloudformation:logical-id");
+
     private Logger logger;
     private final ReadHandler readHandler;
 
@@ -56,18 +69,19 @@ public class CreateHandler extends BaseHandlerStd {
         if (callbackContext == null && model.getId() != null) {
             throw new CfnInvalidRequestException("Id should not be set");
         }
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Name cannot be empty");
         }
 
-        Map<String, String> allDesiredTags = Maps.newHashMap();
+        Map<String, String> allDesiredTags = new HashMap<>();
         allDesiredTags.putAll(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()));
         allDesiredTags.putAll(Optional.ofNullable(request.getSystemTags()).orElse(Collections.emptyMap()));
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
                 proxy.initiate("AWS-OpenSearchServerless-Collection::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(cbModel -> Translator.translateToCreateRequest(cbModel, allDesiredTags))
+                    .translateToServiceRequest(cbModel ->
+                        Translator.translateToCreateRequest(cbModel, allDesiredTags, request.getClientRequestToken()))
                     .makeServiceCall(this::createCollection)
                     .stabilize(this::stabilizeCollectionCreate)
                     .done((createCollectionRequest, createCollectionResponse, client, resourceModel, callbackContext1) -> {
@@ -76,7 +90,8 @@ public class CreateHandler extends BaseHandlerStd {
                     })
 
             )
-            .then(progress -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> stabilizedResult(progress,
+                () -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     /**
@@ -105,6 +120,7 @@ public class CreateHandler extends BaseHandlerStd {
             CollectionDetail collectionDetail = response.collectionDetails().get(0);
             switch (collectionDetail.status()) {
                 case ACTIVE:
+                    callbackContext.setStabilizedResourceModel(Translator.translateFromReadResponse(response));
                     return true;
                 case CREATING:
                     return false;
@@ -114,7 +130,9 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     /**
-     * Create operation will be called.
+     * Create operation will be called. The request carries the client request token of CloudFormation as its client
+     * token, so that the service answers a handler retried after the collection was created with the same collection.
+     * A retry that still conflicts adopts the collection, see {@link #adoptCollection}.
      *
      * @param createCollectionRequest the aws service request to create collection resource
      * @param proxyClient             the aws service client to make the call
@@ -129,7 +147,8 @@ public class CreateHandler extends BaseHandlerStd {
             createCollectionResponse =
                 proxyClient.injectCredentialsAndInvokeV2(createCollectionRequest, proxyClient.client()::createCollection);
         } catch (ConflictException e) {
-            throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, createCollectionRequest.name(), e);
+            return adoptCollection(createCollectionRequest, proxyClient)
+                .orElseThrow(() -> new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, createCollectionRequest.name(), e));
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("CreateCollection", e);
         } catch (ValidationException e) {
@@ -138,4 +157,65 @@ public class CreateHandler extends BaseHandlerStd {
         logger.log(String.format("%s successfully created. response: %s", ResourceModel.TYPE_NAME, createCollectionResponse));
         return createCollectionResponse;
     }
+
+    /**
+     * Looks up the collection that conflicts with the create by its name. A collection that is still being created, with
+     * the type and description of the request and the {@link #STACK_TAGS} of its stack and logical resource, is the one
+     * created by an earlier attempt of the handler request, whose response was lost, so the create goes on with it and
+     * stabilizes it. A collection that is settled, or that differs from the request, belongs to another resource and the
+     * create still fails as already existing, as does a request without these tags.
+     *
+     * @param createCollectionRequest the aws service request to create collection resource
+     * @param proxyClient             the aws service client to make the call
+     * @return the aws service response of the create of the adopted collection, empty if there is none to adopt
+     */
+    private Optional<CreateCollectionResponse> adoptCollection(
+        final @NonNull CreateCollectionRequest createCollectionRequest,
+        final @NonNull ProxyClient<OpenSearchServerlessClient> proxyClient) {
+        final Map<String, String> stackTags = stackTags(createCollectionRequest.tags());
+        if (stackTags.size() != STACK_TAGS.size()) {
+            return Optional.empty();
+        }
+        final BatchGetCollectionResponse batchGetCollectionResponse = proxyClient.injectCredentialsAndInvokeV2(
+            BatchGetCollectionRequest.builder().names(createCollectionRequest.name()).build(),
+            proxyClient.client()::batchGetCollection);
+        final Optional<CreateCollectionResponse> adopted = batchGetCollectionResponse.collectionDetails().stream()
+            .filter(collectionDetail -> isCreatedBy(createCollectionRequest, collectionDetail))
+            .filter(collectionDetail -> stackTags.equals(stackTags(proxyClient.injectCredentialsAndInvokeV2(
+                ListTagsForResourceRequest.builder().resourceArn(collectionDetail.arn()).build(),
+                proxyClient.client()::listTagsForResource).tags())))
+            .findFirst()
+            .map(collectionDetail -> CreateCollectionResponse.builder()
+                .createCollectionDetail(CreateCollectionDetail.builder()
+                    .id(collectionDetail.id())
+                    .name(collectionDetail.name())
+                    .type(collectionDetail.type())
+                    .description(collectionDetail.description())
+                    .status(collectionDetail.status())
+                    .arn(collectionDetail.arn())
+                    .kmsKeyArn(collectionDetail.kmsKeyArn())
+                    .createdDate(collectionDetail.createdDate())
+                    .lastModifiedDate(collectionDetail.lastModifiedDate())
+                    .build())
+                .build());
+        adopted.ifPresent(response -> logger.log(String.format("%s %s adopted after conflict. response: %s",
+            ResourceModel.TYPE_NAME, createCollectionRequest.name(), response)));
+        return adopted;
+    }
+
+    private static boolean isCreatedBy(
+        final CreateCollectionRequest createCollectionRequest,
+        final CollectionDetail collectionDetail) {
+        return collectionDetail.status() == CollectionStatus.CREATING
+            && createCollectionRequest.name().equals(collectionDetail.name())
+            && (createCollectionRequest.type() == null || createCollectionRequest.type() == collectionDetail.type())
+            && Objects.equals(StringUtils.trimToNull(createCollectionRequest.description()),
+                StringUtils.trimToNull(collectionDetail.description()));
+    }
+
+    private static Map<String, String> stackTags(final List<Tag> tags) {
+        return tags.stream()
+            .filter(tag -> STACK_TAGS.contains(tag.key()))
+            .collect(Collectors.toMap(Tag::key, Tag::value, (value1, value2) -> value2));
+    }
 }
@@ -0,0 +1,124 @@
+package software.amazon.opensearchserverless.collection;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import lombok.NonNull;
+
+/**
+ * Classifies the errors of the service calls that the handlers do not map themselves, applied around the calls the
+ * handlers make through their {@link ProxyClient}.
+ * <p>
+ * The service answers a throttled call with an error that has no exception of its own, so it would reach the call
+ * chain of the proxy, which fails a status 400 as an invalid request, or the handler as a generic failure. A call
+ * still throttled after the retries of the client fails the handler with {@link CfnThrottlingException} instead, whose
+ * {@link HandlerErrorCode#Throttling} error code tells CloudFormation that the handler can be retried later.
+ */
+final class ErrorClassifier {
+
+    private ErrorClassifier() {
+    }
+
+    /**
+     * @param exception the exception of a service call, or of the future of an async service call
+     * @return true if the service throttled the call, whether or not the exception was classified yet
+     */
+    static boolean isThrottling(final Throwable exception) {
+        final Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+            ? exception.getCause() : exception;
+        return cause instanceof CfnThrottlingException
+            || cause instanceof SdkServiceException && ((SdkServiceException) cause).isThrottlingException();
+    }
+
+    /**
+     * @param awsRequest the aws service request of the call
+     * @param exception  the exception of the call
+     * @return a {@link CfnThrottlingException} if the service throttled the call, the exception otherwise
+     */
+    static RuntimeException classify(final @NonNull AwsRequest awsRequest, final @NonNull RuntimeException exception) {
+        if (isThrottling(exception) && !(exception instanceof CfnThrottlingException)) {
+            return new CfnThrottlingException(OperationProfile.operationName(awsRequest),
+                exception instanceof CompletionException ? exception.getCause() : exception);
+        }
+        return exception;
+    }
+
+    /**
+     * @param proxyClient the aws service client of the handler
+     * @param <ClientT>   the type of the aws service client
+     * @return the aws service client, whose calls fail with the classified exception
+     */
+    static <ClientT> ProxyClient<ClientT> classifyErrors(final @NonNull ProxyClient<ClientT> proxyClient) {
+        return new ProxyClient<ClientT>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                final RequestT awsRequest,
+                final Function<RequestT, ResponseT> serviceCall) {
+                return classified(awsRequest, () -> proxyClient.injectCredentialsAndInvokeV2(awsRequest, serviceCall));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+                final RequestT awsRequest,
+                final Function<RequestT, CompletableFuture<ResponseT>> serviceCall) {
+                final CompletableFuture<ResponseT> result = new CompletableFuture<>();
+                proxyClient.injectCredentialsAndInvokeV2Async(awsRequest, serviceCall).whenComplete((response, exception) -> {
+                    if (exception == null) {
+                        result.complete(response);
+                    } else if (exception instanceof RuntimeException) {
+                        result.completeExceptionally(classify(awsRequest, (RuntimeException) exception));
+                    } else {
+                        result.completeExceptionally(exception);
+                    }
+                });
+                return result;
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+                final RequestT awsRequest,
+                final Function<RequestT, IterableT> serviceCall) {
+                return classified(awsRequest, () -> proxyClient.injectCredentialsAndInvokeIterableV2(awsRequest, serviceCall));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+                final RequestT awsRequest,
+                final Function<RequestT, ResponseInputStream<ResponseT>> serviceCall) {
+                return classified(awsRequest, () -> proxyClient.injectCredentialsAndInvokeV2InputStream(awsRequest, serviceCall));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+                final RequestT awsRequest,
+                final Function<RequestT, ResponseBytes<ResponseT>> serviceCall) {
+                return classified(awsRequest, () -> proxyClient.injectCredentialsAndInvokeV2Bytes(awsRequest, serviceCall));
+            }
+
+            @Override
+            public ClientT client() {
+                return proxyClient.client();
+            }
+        };
+    }
+
+    private static <T> T classified(final AwsRequest awsRequest, final Supplier<T> serviceCall) {
+        try {
+            return serviceCall.get();
+        } catch (SdkServiceException e) {
+            throw classify(awsRequest, e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package software.amazon.opensearchserverless.collection;
 
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.BatchGetCollectionResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.CollectionStatus;
 import software.amazon.awssdk.services.opensearchserverless.model.ListCollectionsRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListCollectionsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -10,12 +12,45 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import lombok.NonNull;
 
+/**
+ * Lists the ACTIVE collections, filtered by the service, and fills each page with as many ListCollections calls as
+ * needed, so that a listing made of pages of mostly filtered out collections takes fewer invocations.
+ * <p>
+ * Each call asks for no more than the room left in the page, so the page ends on a page boundary of the service and
+ * its nextToken is the continuation token of the handler. The page is returned with the full models, read with one
+ * BatchGetCollection call per {@link #MAX_BATCH_SIZE} collections, so that the resources listed need not be read one
+ * by one.
+ */
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Resource models returned per page at most.
+     */
+    static final int PAGE_SIZE = 100;
+    /**
+     * ListCollections calls made per page at most.
+     */
+    static final int MAX_LIST_CALLS = 10;
+    /**
+     * Time spent filling a page at most, from the start of the invocation. No further ListCollections call is made
+     * after it, and the page is returned with the collections listed so far.
+     */
+    static final Duration PAGE_FILL_TIME = Duration.ofSeconds(30);
+    /**
+     * Ids accepted by a BatchGetCollection call at most.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
     public ListHandler() {
         super();
     }
@@ -23,6 +58,7 @@ public class ListHandler extends BaseHandlerStd {
     public ListHandler(OpenSearchServerlessClient openSearchServerlessClient) {
         super(openSearchServerlessClient);
     }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final @NonNull AmazonWebServicesClientProxy proxy,
@@ -31,15 +67,53 @@ public class ListHandler extends BaseHandlerStd {
             final @NonNull ProxyClient<OpenSearchServerlessClient> proxyClient,
             final @NonNull Logger logger) {
 
-        final ListCollectionsRequest listCollectionsRequest = ListCollectionsRequest.builder().nextToken(request.getNextToken()).build();
-        final ListCollectionsResponse listCollectionsResponse = proxy.injectCredentialsAndInvokeV2(listCollectionsRequest, proxyClient.client()::listCollections);
-        final List<ResourceModel> models = Translator.translateFromListRequest(listCollectionsResponse);
+        final long pageFillDeadline = System.currentTimeMillis() + PAGE_FILL_TIME.toMillis();
+        final List<ResourceModel> models = new ArrayList<>();
+        String nextToken = request.getNextToken();
+        int calls = 0;
+        do {
+            final ListCollectionsRequest listCollectionsRequest = Translator.translateToListRequest(nextToken, PAGE_SIZE - models.size());
+            final ListCollectionsResponse listCollectionsResponse = proxy.injectCredentialsAndInvokeV2(listCollectionsRequest,
+                    proxyClient.client()::listCollections);
+            models.addAll(Translator.translateFromListRequest(listCollectionsResponse));
+            nextToken = listCollectionsResponse.nextToken();
+            calls++;
+        } while (nextToken != null && models.size() < PAGE_SIZE && calls < MAX_LIST_CALLS
+            && System.currentTimeMillis() < pageFillDeadline);
+        logger.log(String.format("%s listed %d resources in %d calls", ResourceModel.TYPE_NAME, models.size(), calls));
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                            .resourceModels(models)
-                            .nextToken(listCollectionsResponse.nextToken())
+                            .resourceModels(readFullModels(models, proxyClient, logger))
+                            .nextToken(nextToken)
                             .status(OperationStatus.SUCCESS)
                             .build();
     }
 
+    /**
+     * Reads the full models of the listed collections in batches. Collections no longer ACTIVE are left out.
+     *
+     * @param models      the listed resource models (primary identifier only)
+     * @param proxyClient the aws service client to make the calls
+     * @param logger      the logger
+     * @return the full resource models, in the order they were listed
+     */
+    private List<ResourceModel> readFullModels(
+            final List<ResourceModel> models,
+            final ProxyClient<OpenSearchServerlessClient> proxyClient,
+            final Logger logger) {
+        final List<String> ids = models.stream().map(ResourceModel::getId).collect(Collectors.toList());
+        final Map<String, ResourceModel> modelsById = new HashMap<>();
+        int calls = 0;
+        for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+            final List<String> batch = ids.subList(from, Math.min(ids.size(), from + MAX_BATCH_SIZE));
+            final BatchGetCollectionResponse batchGetCollectionResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToBatchReadRequest(batch), proxyClient.client()::batchGetCollection);
+            batchGetCollectionResponse.collectionDetails().stream()
+                                      .filter(collectionDetail -> CollectionStatus.ACTIVE.equals(collectionDetail.status()))
+                                      .forEach(collectionDetail -> modelsById.put(collectionDetail.id(), Translator.translateFromCollectionDetail(collectionDetail)));
+            calls++;
+        }
+        logger.log(String.format("%s read %d of %d listed resources in %d calls", ResourceModel.TYPE_NAME, modelsById.size(), ids.size(), calls));
+        return ids.stream().map(modelsById::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
 }
@@ -1,6 +1,7 @@
 package software.amazon.opensearchserverless.collection;
 
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -8,7 +9,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import com.amazonaws.util.StringUtils;
 import lombok.NonNull;
 
 public class ReadHandler extends BaseHandlerStd {
@@ -31,7 +31,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (StringUtils.isNullOrEmpty(model.getId())) {
+        if (StringUtils.isEmpty(model.getId())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Id cannot be empty");
         }
 
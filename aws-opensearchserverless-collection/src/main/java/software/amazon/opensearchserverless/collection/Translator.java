@@ -25,16 +25,22 @@ public class Translator {
     /**
      * Request to create a resource
      *
-     * @param model resource model
+     * @param model       resource model
+     * @param desiredTags tags of the resource
+     * @param clientToken idempotency token of the create, the same for each attempt of the handler request
      * @return CreateCollectionRequest the aws service request to create a resource
      */
-    static CreateCollectionRequest translateToCreateRequest(final @NonNull ResourceModel model, final Map<String, String> desiredTags) {
+    static CreateCollectionRequest translateToCreateRequest(
+            final @NonNull ResourceModel model,
+            final Map<String, String> desiredTags,
+            final String clientToken) {
 
         CreateCollectionRequest.Builder createCollectionRequestBuilder =
                 CreateCollectionRequest.builder()
                                        .name(model.getName())
                                        .type(model.getType())
-                                       .description(model.getDescription());
+                                       .description(model.getDescription())
+                                       .clientToken(clientToken);
 
         if (!CollectionUtils.isNullOrEmpty(desiredTags)) {
             createCollectionRequestBuilder = createCollectionRequestBuilder.tags(translateModelTagsToSDK(desiredTags));
@@ -62,7 +68,28 @@ public class Translator {
      * @return model resource model
      */
     static ResourceModel translateFromReadResponse(final @NonNull BatchGetCollectionResponse batchGetCollectionResponse) {
-        CollectionDetail collectionDetail = batchGetCollectionResponse.collectionDetails().get(0);
+        return translateFromCollectionDetail(batchGetCollectionResponse.collectionDetails().get(0));
+    }
+
+    /**
+     * Request to read resources in a batch
+     *
+     * @param ids collection ids, no more than BatchGetCollection accepts
+     * @return BatchGetCollectionRequest the aws service request to describe the resources
+     */
+    static BatchGetCollectionRequest translateToBatchReadRequest(final @NonNull List<String> ids) {
+        return BatchGetCollectionRequest.builder()
+                                        .ids(ids)
+                                        .build();
+    }
+
+    /**
+     * Translates a collection from sdk into a resource model
+     *
+     * @param collectionDetail the collection
+     * @return model resource model
+     */
+    static ResourceModel translateFromCollectionDetail(final @NonNull CollectionDetail collectionDetail) {
         return ResourceModel.builder()
                             .id(collectionDetail.id())
                             .name(collectionDetail.name())
@@ -99,6 +126,21 @@ public class Translator {
             .build();
     }
 
+    /**
+     * Request to list resources, only the ACTIVE collections are returned by the service
+     *
+     * @param nextToken  token of the page to list, null for the first page
+     * @param maxResults collections to list at most
+     * @return ListCollectionsRequest the aws service request to list resources
+     */
+    static ListCollectionsRequest translateToListRequest(final String nextToken, final int maxResults) {
+        return ListCollectionsRequest.builder()
+                                     .collectionFilters(CollectionFilters.builder().status(CollectionStatus.ACTIVE).build())
+                                     .maxResults(maxResults)
+                                     .nextToken(nextToken)
+                                     .build();
+    }
+
     /**
      * Translates resource objects from sdk into a resource model (primary identifier only)
      *
@@ -1,7 +1,6 @@
 package software.amazon.opensearchserverless.collection;
 
 
-import com.amazonaws.util.StringUtils;
 import lombok.NonNull;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.BatchGetCollectionRequest;
@@ -9,6 +8,7 @@ import software.amazon.awssdk.services.opensearchserverless.model.BatchGetCollec
 import software.amazon.awssdk.services.opensearchserverless.model.CollectionDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateCollectionRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateCollectionResponse;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -42,11 +42,11 @@ public class UpdateHandler extends BaseHandlerStd {
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (StringUtils.isNullOrEmpty(model.getId())) {
+        if (StringUtils.isEmpty(model.getId())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Id cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getDescription())) {
+        if (StringUtils.isEmpty(model.getDescription())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Description cannot be empty");
         }
 
@@ -61,7 +61,8 @@ public class UpdateHandler extends BaseHandlerStd {
                 .makeServiceCall((updateCollectionRequest, proxyClient1) -> proxyClient.injectCredentialsAndInvokeV2(updateCollectionRequest, proxyClient1.client()::updateCollection))
                 .stabilize(this::stabilizeCollectionUpdate)
                 .progress())
-            .then(progress -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> stabilizedResult(progress,
+                () -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     /**
@@ -81,13 +82,13 @@ public class UpdateHandler extends BaseHandlerStd {
         final CallbackContext callbackContext) {
         logger.log(String.format("Stabilize CollectionUpdate for resource %s", resourceModel));
         BatchGetCollectionRequest request = Translator.translateToReadRequest(resourceModel);
-        BatchGetCollectionResponse response = proxyClient.injectCredentialsAndInvokeV2(request,
-            proxyClient.client()::batchGetCollection);
+        BatchGetCollectionResponse response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::batchGetCollection);
 
         if (response.hasCollectionDetails() && response.collectionDetails().size() == 1) {
             CollectionDetail collectionDetail = response.collectionDetails().get(0);
             switch (collectionDetail.status()) {
                 case ACTIVE:
+                    callbackContext.setStabilizedResourceModel(Translator.translateFromReadResponse(response));
                     return true;
                 default:
                     return false;
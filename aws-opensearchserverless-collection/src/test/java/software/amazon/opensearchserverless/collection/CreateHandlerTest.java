@@ -8,9 +8,13 @@ import software.amazon.awssdk.services.opensearchserverless.model.BatchGetCollec
 import software.amazon.awssdk.services.opensearchserverless.model.BatchGetCollectionResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.CollectionDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.CollectionStatus;
+import software.amazon.awssdk.services.opensearchserverless.model.ConflictException;
 import software.amazon.awssdk.services.opensearchserverless.model.CreateCollectionDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.CreateCollectionRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.CreateCollectionResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.ListTagsForResourceResponse;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -22,6 +26,7 @@ import com.google.common.collect.ImmutableList;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +51,10 @@ public class CreateHandlerTest extends AbstractTestBase {
     static final String COLLECTION_ENDPOINT = "irbh23msi1.us-east-1.aoss.amazonaws.com";
     static final String DASHBOARD_ENDPOINT = "irbh23msi1.us-east-1.aoss.amazonaws.com/_dashboards";
     static final long CREATED_DATE = 1234567;
+    static final String CLIENT_REQUEST_TOKEN = "4b90a7e4-b790-456b-a937-0cfdfa211dfe";
+    static final Map<String, String> STACK_TAGS = ImmutableMap.of(
+            "aws:cloudformation:stack-id", "arn:aws:cloudformation:us-east-1:123456789012:stack/stack-name/1",
+            "aws:cloudformation:logical-id", "Collection");
 
     @Mock
     private AmazonWebServicesClientProxy proxy;
@@ -133,6 +143,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createCollection(any(CreateCollectionRequest.class));
+        // the stabilization poll returns the model, the collection is not read again
+        verify(proxyClient.client()).batchGetCollection(any(BatchGetCollectionRequest.class));
     }
 
     @Test
@@ -329,6 +341,120 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     }
 
+    @Test
+    public void handleRequest_ConflictAdoptsCollectionBeingCreated() {
+        final ResourceModel requestModel = ResourceModel.builder()
+                                                        .name(COLLECTION_NAME)
+                                                        .type(COLLECTION_TYPE)
+                                                        .description(COLLECTION_DESCRIPTION)
+                                                        .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                    .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                                                                                    .desiredResourceState(requestModel)
+                                                                                    .systemTags(STACK_TAGS)
+                                                                                    .build();
+
+        when(proxyClient.client().createCollection(any(CreateCollectionRequest.class)))
+                .thenThrow(ConflictException.builder().message("Collection already exists").build());
+        when(proxyClient.client().batchGetCollection(any(BatchGetCollectionRequest.class)))
+                .thenReturn(batchGetCollectionResponse(CollectionStatus.CREATING))
+                .thenReturn(batchGetCollectionResponse(CollectionStatus.ACTIVE));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(listTagsForResourceResponse(STACK_TAGS));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+                .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(COLLECTION_ID);
+
+        verify(proxyClient.client()).createCollection(createCollectionRequestArgumentCaptor.capture());
+        assertThat(createCollectionRequestArgumentCaptor.getValue().clientToken()).isEqualTo(CLIENT_REQUEST_TOKEN);
+        verify(proxyClient.client()).batchGetCollection(argThat((BatchGetCollectionRequest r) -> r.names().contains(COLLECTION_NAME)));
+        verify(proxyClient.client()).batchGetCollection(argThat((BatchGetCollectionRequest r) -> r.ids().contains(COLLECTION_ID)));
+        verify(proxyClient.client()).listTagsForResource(argThat((ListTagsForResourceRequest r) -> COLLECTION_ARN.equals(r.resourceArn())));
+    }
+
+    @Test
+    public void handleRequest_ConflictWithCollectionOfAnotherStackFail() {
+        final ResourceModel requestModel = ResourceModel.builder()
+                                                        .name(COLLECTION_NAME)
+                                                        .type(COLLECTION_TYPE)
+                                                        .description(COLLECTION_DESCRIPTION)
+                                                        .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                    .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                                                                                    .desiredResourceState(requestModel)
+                                                                                    .systemTags(STACK_TAGS)
+                                                                                    .build();
+
+        when(proxyClient.client().createCollection(any(CreateCollectionRequest.class)))
+                .thenThrow(ConflictException.builder().message("Collection already exists").build());
+        when(proxyClient.client().batchGetCollection(any(BatchGetCollectionRequest.class)))
+                .thenReturn(batchGetCollectionResponse(CollectionStatus.CREATING));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(listTagsForResourceResponse(ImmutableMap.of(
+                        "aws:cloudformation:stack-id", "arn:aws:cloudformation:us-east-1:123456789012:stack/other-stack/1",
+                        "aws:cloudformation:logical-id", "Collection")));
+
+        assertThrows(CfnAlreadyExistsException.class,
+                     () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client()).createCollection(any(CreateCollectionRequest.class));
+        verify(proxyClient.client()).batchGetCollection(argThat((BatchGetCollectionRequest r) -> r.names().contains(COLLECTION_NAME)));
+        verify(proxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ConflictWithoutStackTagsFail() {
+        final ResourceModel requestModel = ResourceModel.builder()
+                                                        .name(COLLECTION_NAME)
+                                                        .type(COLLECTION_TYPE)
+                                                        .description(COLLECTION_DESCRIPTION)
+                                                        .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                    .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                                                                                    .desiredResourceState(requestModel)
+                                                                                    .build();
+
+        when(proxyClient.client().createCollection(any(CreateCollectionRequest.class)))
+                .thenThrow(ConflictException.builder().message("Collection already exists").build());
+
+        assertThrows(CfnAlreadyExistsException.class,
+                     () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client()).createCollection(any(CreateCollectionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ConflictWithSettledCollectionFail() {
+        final ResourceModel requestModel = ResourceModel.builder()
+                                                        .name(COLLECTION_NAME)
+                                                        .type(COLLECTION_TYPE)
+                                                        .description(COLLECTION_DESCRIPTION)
+                                                        .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                    .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                                                                                    .desiredResourceState(requestModel)
+                                                                                    .systemTags(STACK_TAGS)
+                                                                                    .build();
+
+        when(proxyClient.client().createCollection(any(CreateCollectionRequest.class)))
+                .thenThrow(ConflictException.builder().message("Collection already exists").build());
+        when(proxyClient.client().batchGetCollection(any(BatchGetCollectionRequest.class)))
+                .thenReturn(batchGetCollectionResponse(CollectionStatus.ACTIVE));
+
+        assertThrows(CfnAlreadyExistsException.class,
+                     () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client()).createCollection(any(CreateCollectionRequest.class));
+        verify(proxyClient.client()).batchGetCollection(argThat((BatchGetCollectionRequest r) -> r.names().contains(COLLECTION_NAME)));
+    }
+
     @Test
     @org.junit.jupiter.api.Tag("skipSdkInteraction")
     public void handleRequest_NoNameFail() {
@@ -347,4 +473,27 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
     }
+
+    private static ListTagsForResourceResponse listTagsForResourceResponse(final Map<String, String> tags) {
+        return ListTagsForResourceResponse.builder()
+                                          .tags(Translator.translateModelTagsToSDK(tags))
+                                          .build();
+    }
+
+    private static BatchGetCollectionResponse batchGetCollectionResponse(final CollectionStatus status) {
+        return BatchGetCollectionResponse.builder()
+                                         .collectionDetails(
+                                                 CollectionDetail.builder()
+                                                                 .id(COLLECTION_ID)
+                                                                 .status(status)
+                                                                 .name(COLLECTION_NAME)
+                                                                 .type(COLLECTION_TYPE)
+                                                                 .description(COLLECTION_DESCRIPTION)
+                                                                 .arn(COLLECTION_ARN)
+                                                                 .collectionEndpoint(COLLECTION_ENDPOINT)
+                                                                 .dashboardEndpoint(DASHBOARD_ENDPOINT)
+                                                                 .createdDate(CREATED_DATE)
+                                                                 .build())
+                                         .build();
+    }
 }
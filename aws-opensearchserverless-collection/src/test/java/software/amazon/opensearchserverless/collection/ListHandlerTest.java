@@ -1,11 +1,17 @@
 package software.amazon.opensearchserverless.collection;
 
 import com.google.common.collect.ImmutableList;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.BatchGetCollectionRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.BatchGetCollectionResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.CollectionDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.CollectionStatus;
 import software.amazon.awssdk.services.opensearchserverless.model.CollectionSummary;
 import software.amazon.awssdk.services.opensearchserverless.model.ListCollectionsRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListCollectionsResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.OpenSearchServerlessException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -14,15 +20,21 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,6 +72,7 @@ public class ListHandlerTest extends AbstractTestBase {
                 .build();
         when(proxyClient.client().listCollections(any(ListCollectionsRequest.class)))
                 .thenReturn(listCollectionsResponse);
+        stubBatchGetCollection();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
         final ProgressEvent<ResourceModel, CallbackContext> response =
@@ -90,6 +103,7 @@ public class ListHandlerTest extends AbstractTestBase {
                 .build();
         when(proxyClient.client().listCollections(any(ListCollectionsRequest.class)))
                 .thenReturn(listCollectionsResponse);
+        stubBatchGetCollection();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
         final ProgressEvent<ResourceModel, CallbackContext> response =
@@ -119,6 +133,7 @@ public class ListHandlerTest extends AbstractTestBase {
                 .build();
         when(proxyClient.client().listCollections(any(ListCollectionsRequest.class)))
                 .thenReturn(listCollectionsResponse);
+        stubBatchGetCollection();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
         final ProgressEvent<ResourceModel, CallbackContext> response =
@@ -133,7 +148,129 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
         assertThat(response.getNextToken()).isNotNull();
+        assertThat(response.getResourceModels().size()).isEqualTo(ListHandler.MAX_LIST_CALLS);
 
-        verify(proxyClient.client()).listCollections(any(ListCollectionsRequest.class));
+        verify(proxyClient.client(), times(ListHandler.MAX_LIST_CALLS)).listCollections(any(ListCollectionsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FiltersActiveCollectionsOnService() {
+        final ListCollectionsResponse listCollectionsResponse = ListCollectionsResponse.builder()
+                .collectionSummaries(CollectionSummary.builder().id("123456").status(CollectionStatus.ACTIVE).build())
+                .build();
+        when(proxyClient.client().listCollections(any(ListCollectionsRequest.class)))
+                .thenReturn(listCollectionsResponse);
+        stubBatchGetCollection();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .nextToken("h-0d017be6744e85727")
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+
+        final ArgumentCaptor<ListCollectionsRequest> captor = ArgumentCaptor.forClass(ListCollectionsRequest.class);
+        verify(proxyClient.client()).listCollections(captor.capture());
+        assertThat(captor.getValue().collectionFilters().status()).isEqualTo(CollectionStatus.ACTIVE);
+        assertThat(captor.getValue().maxResults()).isEqualTo(ListHandler.PAGE_SIZE);
+        assertThat(captor.getValue().nextToken()).isEqualTo("h-0d017be6744e85727");
+    }
+
+    @Test
+    public void handleRequest_FillsPageAcrossCalls() {
+        final ListCollectionsResponse firstResponse = ListCollectionsResponse.builder()
+                .collectionSummaries(
+                        CollectionSummary.builder().id("123456").status(CollectionStatus.ACTIVE).build(),
+                        CollectionSummary.builder().id("123457").status(CollectionStatus.ACTIVE).build())
+                .nextToken("token-1")
+                .build();
+        final ListCollectionsResponse secondResponse = ListCollectionsResponse.builder()
+                .collectionSummaries(CollectionSummary.builder().id("123458").status(CollectionStatus.ACTIVE).build())
+                .build();
+        when(proxyClient.client().listCollections(any(ListCollectionsRequest.class)))
+                .thenReturn(firstResponse, secondResponse);
+        stubBatchGetCollection();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getId)
+                .containsExactly("123456", "123457", "123458");
+        assertThat(response.getNextToken()).isNull();
+
+        final ArgumentCaptor<ListCollectionsRequest> captor = ArgumentCaptor.forClass(ListCollectionsRequest.class);
+        verify(proxyClient.client(), times(2)).listCollections(captor.capture());
+        assertThat(captor.getAllValues().get(1).nextToken()).isEqualTo("token-1");
+        assertThat(captor.getAllValues().get(1).maxResults()).isEqualTo(ListHandler.PAGE_SIZE - 2);
+    }
+
+    @Test
+    public void handleRequest_FullModels_ReadsInBatches() {
+        final List<CollectionSummary> collectionSummaries = IntStream.range(0, ListHandler.MAX_BATCH_SIZE + 1)
+                .mapToObj(i -> CollectionSummary.builder().id("id" + i).name("name" + i).status(CollectionStatus.ACTIVE).build())
+                .collect(Collectors.toList());
+        when(proxyClient.client().listCollections(any(ListCollectionsRequest.class)))
+                .thenReturn(ListCollectionsResponse.builder().collectionSummaries(collectionSummaries).build());
+        when(proxyClient.client().batchGetCollection(any(BatchGetCollectionRequest.class)))
+                .thenAnswer(invocation -> BatchGetCollectionResponse.builder()
+                        .collectionDetails(invocation.getArgument(0, BatchGetCollectionRequest.class).ids().stream()
+                                .filter(id -> !id.equals("id1"))
+                                .map(id -> CollectionDetail.builder()
+                                        .id(id)
+                                        .name("name")
+                                        .type("SEARCH")
+                                        .arn("arn-" + id)
+                                        .status(id.equals("id2") ? CollectionStatus.DELETING : CollectionStatus.ACTIVE)
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(collectionSummaries.size() - 2);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo("id0");
+        assertThat(response.getResourceModels().get(0).getArn()).isEqualTo("arn-id0");
+        assertThat(response.getResourceModels().get(1).getId()).isEqualTo("id3");
+        assertThat(response.getResourceModels()).allSatisfy(model -> assertThat(model.getType()).isEqualTo("SEARCH"));
+
+        final ArgumentCaptor<BatchGetCollectionRequest> captor = ArgumentCaptor.forClass(BatchGetCollectionRequest.class);
+        verify(proxyClient.client(), times(2)).batchGetCollection(captor.capture());
+        assertThat(captor.getAllValues().get(0).ids()).hasSize(ListHandler.MAX_BATCH_SIZE);
+        assertThat(captor.getAllValues().get(1).ids()).containsExactly("id" + ListHandler.MAX_BATCH_SIZE);
+    }
+
+    @Test
+    public void handleRequest_FullModels_ReadThroughProxyClient() {
+        when(proxyClient.client().listCollections(any(ListCollectionsRequest.class)))
+                .thenReturn(ListCollectionsResponse.builder()
+                        .collectionSummaries(CollectionSummary.builder().id("id0").status(CollectionStatus.ACTIVE).build())
+                        .build());
+        when(proxyClient.client().batchGetCollection(any(BatchGetCollectionRequest.class)))
+                .thenThrow(OpenSearchServerlessException.builder()
+                        .statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(),
+                ErrorClassifier.classifyErrors(proxyClient), logger))
+                .isInstanceOf(CfnThrottlingException.class);
+    }
+
+    private void stubBatchGetCollection() {
+        when(proxyClient.client().batchGetCollection(any(BatchGetCollectionRequest.class)))
+                .thenAnswer(invocation -> BatchGetCollectionResponse.builder()
+                        .collectionDetails(invocation.getArgument(0, BatchGetCollectionRequest.class).ids().stream()
+                                .map(id -> CollectionDetail.builder().id(id).status(CollectionStatus.ACTIVE).build())
+                                .collect(Collectors.toList()))
+                        .build());
     }
 }
@@ -126,7 +126,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .build()
                 ).build();
         Mockito.when(proxyClient.client().batchGetCollection(any(BatchGetCollectionRequest.class)))
-            .thenReturn(batchGetCollectionResponse1, batchGetCollectionResponse2, batchGetCollectionResponse2);
+            .thenReturn(batchGetCollectionResponse1, batchGetCollectionResponse2);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
             .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -139,6 +139,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         Mockito.verify(proxyClient.client()).updateCollection(any(UpdateCollectionRequest.class));
+        // pre-update check and stabilization poll only, the collection is not read again
+        Mockito.verify(proxyClient.client(), Mockito.times(2)).batchGetCollection(any(BatchGetCollectionRequest.class));
     }
 
     @Test
@@ -1,28 +1,55 @@
 package software.amazon.opensearchserverless.lifecyclepolicy;
 
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicyDetail;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Optional;
+
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
+    static final VersionCache<LifecyclePolicyDetail> LIFECYCLE_POLICY_VERSIONS = new VersionCache<>(VersionCache.MAX_ENTRIES);
+
     private final OpenSearchServerlessClient openSearchServerlessClient;
+    private final OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient;
 
     protected BaseHandlerStd() {
-        this(ClientBuilder.getClient());
+        this(ClientBuilder.getClient(), ClientBuilder.getAsyncClient());
+        Priming.prime();
     }
 
     protected BaseHandlerStd(OpenSearchServerlessClient openSearchServerlessClient) {
+        this(openSearchServerlessClient, null);
+    }
+
+    protected BaseHandlerStd(
+        OpenSearchServerlessClient openSearchServerlessClient,
+        OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient) {
         this.openSearchServerlessClient = openSearchServerlessClient;
+        this.openSearchServerlessAsyncClient = openSearchServerlessAsyncClient;
     }
 
     protected OpenSearchServerlessClient getOpenSearchServerlessClient() {
         return openSearchServerlessClient;
     }
 
+    /**
+     * The handlers make their independent service calls at once on the async client, instead of
+     * one after the other or with a thread per call.
+     *
+     * @param proxy the aws service client proxy
+     * @return the proxy of the async client, empty for a handler built without one
+     */
+    protected Optional<ProxyClient<OpenSearchServerlessAsyncClient>> newAsyncProxyClient(final AmazonWebServicesClientProxy proxy) {
+        return Optional.ofNullable(openSearchServerlessAsyncClient)
+            .map(asyncClient -> ErrorClassifier.classifyErrors(proxy.newProxy(() -> asyncClient)));
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                              final ResourceHandlerRequest<ResourceModel> request,
@@ -32,7 +59,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             proxy,
             request,
             callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(this::getOpenSearchServerlessClient),
+            ErrorClassifier.classifyErrors(proxy.newProxy(this::getOpenSearchServerlessClient)),
             logger);
     }
 
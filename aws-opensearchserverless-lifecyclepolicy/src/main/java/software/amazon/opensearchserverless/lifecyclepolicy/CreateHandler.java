@@ -1,6 +1,5 @@
 package software.amazon.opensearchserverless.lifecyclepolicy;
 
-import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.ConflictException;
 import software.amazon.awssdk.services.opensearchserverless.model.CreateLifecyclePolicyRequest;
@@ -8,6 +7,7 @@ import software.amazon.awssdk.services.opensearchserverless.model.CreateLifecycl
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -36,26 +36,27 @@ public class CreateHandler extends BaseHandlerStd {
                                                                           final Logger logger) {
 
         ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Name cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Type cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getPolicy())) {
+        if (StringUtils.isEmpty(model.getPolicy())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Policy cannot be empty");
         }
 
         return proxy.initiate("AWS-OpenSearchServerless-LifecyclePolicy::Create", proxyClient, request.getDesiredResourceState(), callbackContext)
             .translateToServiceRequest(Translator::translateToCreateRequest)
-            .makeServiceCall((awsRequest, client) -> createLifecyclePolicy(awsRequest, client, logger))
+            .makeServiceCall((awsRequest, client) -> createLifecyclePolicy(awsRequest, client, request, logger))
             .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromCreateResponse(awsResponse)));
     }
 
     private CreateLifecyclePolicyResponse createLifecyclePolicy(final CreateLifecyclePolicyRequest createLifecyclePolicyRequest,
                                                                 final ProxyClient<OpenSearchServerlessClient> proxyClient,
+                                                                final ResourceHandlerRequest<ResourceModel> request,
                                                                 final Logger logger) {
         CreateLifecyclePolicyResponse createLifecyclePolicyResponse;
         try {
@@ -75,6 +76,8 @@ public class CreateHandler extends BaseHandlerStd {
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("CreateLifecyclePolicy", e);
         }
+        LIFECYCLE_POLICY_VERSIONS.put(request, Translator.getResourceIdentifier(request.getDesiredResourceState()),
+            createLifecyclePolicyResponse.lifecyclePolicyDetail());
         logger.log(String.format("%s successfully created. response: %s", ResourceModel.TYPE_NAME, createLifecyclePolicyResponse));
         return createLifecyclePolicyResponse;
     }
@@ -1,12 +1,12 @@
 package software.amazon.opensearchserverless.lifecyclepolicy;
 
-import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.DeleteLifecyclePolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.DeleteLifecyclePolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -35,22 +35,23 @@ public class DeleteHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Name cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Type cannot be empty");
         }
 
         return proxy.initiate("AWS-OpenSearchServerless-LifecyclePolicy::Delete", proxyClient, request.getDesiredResourceState(), callbackContext)
             .translateToServiceRequest(Translator::translateToDeleteRequest)
-            .makeServiceCall((awsRequest, client) -> deleteLifecyclePolicy(awsRequest, client, logger))
+            .makeServiceCall((awsRequest, client) -> deleteLifecyclePolicy(awsRequest, client, request, logger))
             .done(awsResponse -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     private DeleteLifecyclePolicyResponse deleteLifecyclePolicy(final DeleteLifecyclePolicyRequest deleteLifecyclePolicyRequest,
                                                                 final ProxyClient<OpenSearchServerlessClient> proxyClient,
+                                                                final ResourceHandlerRequest<ResourceModel> request,
                                                                 final Logger logger) {
         DeleteLifecyclePolicyResponse deleteLifecyclePolicyResponse;
         try {
@@ -63,6 +64,8 @@ public class DeleteHandler extends BaseHandlerStd {
             throw new CfnInvalidRequestException(deleteLifecyclePolicyRequest.toString() + ", " + e.getMessage(), e);
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("DeleteLifecyclePolicy", e);
+        } finally {
+            LIFECYCLE_POLICY_VERSIONS.remove(request, Translator.getResourceIdentifier(request.getDesiredResourceState()));
         }
         logger.log(String.format("%s successfully deleted. response: %s", ResourceModel.TYPE_NAME, deleteLifecyclePolicyResponse));
         return deleteLifecyclePolicyResponse;
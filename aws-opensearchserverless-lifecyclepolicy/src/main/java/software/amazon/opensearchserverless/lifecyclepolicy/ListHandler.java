@@ -1,21 +1,48 @@
 package software.amazon.opensearchserverless.lifecyclepolicy;
 
-import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.BatchGetLifecyclePolicyResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicyType;
 import software.amazon.awssdk.services.opensearchserverless.model.ListLifecyclePoliciesRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListLifecyclePoliciesResponse;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+/**
+ * Lists the lifecycle policies of a type, or of every type with {@link MultiTypeListing} when the request names none.
+ * The page is returned with the full models, read with one BatchGetLifecyclePolicy call per {@link #MAX_BATCH_SIZE}
+ * policies, so that the resources listed need not be read one by one.
+ * <p>
+ * The types of a list request that names none are listed at once on the async client, without a thread per type.
+ */
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Types listed when the request names none.
+     */
+    static final List<String> TYPES = LifecyclePolicyType.knownValues().stream()
+        .map(LifecyclePolicyType::toString)
+        .sorted()
+        .collect(Collectors.toList());
+    /**
+     * Maximum number of identifiers accepted by BatchGetLifecyclePolicy.
+     */
+    static final int MAX_BATCH_SIZE = 40;
+
     public ListHandler() {
         super();
     }
@@ -24,6 +51,10 @@ public class ListHandler extends BaseHandlerStd {
         super(openSearchServerlessClient);
     }
 
+    ListHandler(OpenSearchServerlessClient openSearchServerlessClient, OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient) {
+        super(openSearchServerlessClient, openSearchServerlessAsyncClient);
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                        final ResourceHandlerRequest<ResourceModel> request,
@@ -32,20 +63,71 @@ public class ListHandler extends BaseHandlerStd {
                                                                        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-
-        if (StringUtils.isNullOrEmpty(model.getType())) {
-            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Type cannot be empty");
+        final Optional<ProxyClient<OpenSearchServerlessAsyncClient>> asyncProxyClient = newAsyncProxyClient(proxy);
+        final MultiTypeListing.Page page;
+        if (model != null && !StringUtils.isEmpty(model.getType())) {
+            page = listLifecyclePolicies(proxy, proxyClient, model, request.getNextToken());
+        } else if (asyncProxyClient.isPresent()) {
+            page = MultiTypeListing.listAsync(request.getNextToken(), TYPES, (type, cursor) ->
+                listLifecyclePoliciesAsync(asyncProxyClient.get(), ResourceModel.builder().type(type).build(), cursor));
+        } else {
+            page = MultiTypeListing.list(request.getNextToken(), TYPES, (type, cursor) ->
+                listLifecyclePolicies(proxy, proxyClient, ResourceModel.builder().type(type).build(), cursor));
         }
-
-        final ListLifecyclePoliciesRequest listLifecyclePoliciesRequest = Translator.translateToListRequest(model, request.getNextToken());
-        final ListLifecyclePoliciesResponse listLifecyclePoliciesResponse = proxy.injectCredentialsAndInvokeV2(listLifecyclePoliciesRequest, proxyClient.client()::listLifecyclePolicies);
-        final String nextToken = listLifecyclePoliciesResponse.nextToken();
-        final List<ResourceModel> models = Translator.translateFromListRequest(listLifecyclePoliciesResponse);
+        final List<ResourceModel> models = page.getModels();
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(models)
-            .nextToken(nextToken)
+            .resourceModels(readFullModels(models, proxyClient, logger))
+            .nextToken(page.getNextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
+
+    private MultiTypeListing.Page listLifecyclePolicies(final AmazonWebServicesClientProxy proxy,
+                                                       final ProxyClient<OpenSearchServerlessClient> proxyClient,
+                                                       final ResourceModel model,
+                                                       final String nextToken) {
+        final ListLifecyclePoliciesRequest listLifecyclePoliciesRequest = Translator.translateToListRequest(model, nextToken);
+        final ListLifecyclePoliciesResponse listLifecyclePoliciesResponse = proxy.injectCredentialsAndInvokeV2(listLifecyclePoliciesRequest, proxyClient.client()::listLifecyclePolicies);
+        return new MultiTypeListing.Page(Translator.translateFromListRequest(listLifecyclePoliciesResponse), listLifecyclePoliciesResponse.nextToken());
+    }
+
+    private static CompletableFuture<MultiTypeListing.Page> listLifecyclePoliciesAsync(final ProxyClient<OpenSearchServerlessAsyncClient> asyncProxyClient,
+                                                                                       final ResourceModel model,
+                                                                                       final String nextToken) {
+        return asyncProxyClient.injectCredentialsAndInvokeV2Async(Translator.translateToListRequest(model, nextToken),
+                asyncProxyClient.client()::listLifecyclePolicies)
+            .thenApply(response -> new MultiTypeListing.Page(Translator.translateFromListRequest(response), response.nextToken()));
+    }
+
+    /**
+     * Reads the full models of the listed lifecycle policies in batches. Policies deleted since they were listed are
+     * left out.
+     *
+     * @param models      the listed resource models
+     * @param proxyClient the aws service client to make the calls
+     * @param logger      the logger
+     * @return the full resource models, in the order they were listed
+     */
+    private List<ResourceModel> readFullModels(final List<ResourceModel> models,
+                                               final ProxyClient<OpenSearchServerlessClient> proxyClient,
+                                               final Logger logger) {
+        final Map<String, ResourceModel> modelsByIdentifier = new HashMap<>();
+        int calls = 0;
+        for (int from = 0; from < models.size(); from += MAX_BATCH_SIZE) {
+            final List<ResourceModel> batch = models.subList(from, Math.min(models.size(), from + MAX_BATCH_SIZE));
+            final BatchGetLifecyclePolicyResponse batchGetLifecyclePolicyResponse = proxyClient.injectCredentialsAndInvokeV2(
+                Translator.translateToBatchReadRequest(batch), proxyClient.client()::batchGetLifecyclePolicy);
+            batchGetLifecyclePolicyResponse.lifecyclePolicyDetails()
+                .forEach(lifecyclePolicyDetail -> modelsByIdentifier.put(Translator.getResourceIdentifier(lifecyclePolicyDetail),
+                    Translator.translateLifecyclePolicyDetailFromSDK(lifecyclePolicyDetail)));
+            calls++;
+        }
+        logger.log(String.format("%s read %d of %d listed resources in %d calls", ResourceModel.TYPE_NAME,
+            modelsByIdentifier.size(), models.size(), calls));
+        return models.stream()
+            .map(model -> modelsByIdentifier.get(Translator.getResourceIdentifier(model)))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
 }
@@ -1,11 +1,11 @@
 package software.amazon.opensearchserverless.lifecyclepolicy;
 
-import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.BatchGetLifecyclePolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.BatchGetLifecyclePolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -32,33 +32,37 @@ public class ReadHandler extends BaseHandlerStd {
                                                                           final Logger logger) {
 
         ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Name cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Type cannot be empty");
         }
 
         return proxy.initiate("AWS-OpenSearchServerless-LifecyclePolicy::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall((awsRequest, client) -> batchGetLifecyclePolicy(awsRequest, client, logger))
+            .makeServiceCall((awsRequest, client) -> batchGetLifecyclePolicy(awsRequest, client, request, logger))
             .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(awsResponse)));
     }
 
     private BatchGetLifecyclePolicyResponse batchGetLifecyclePolicy(final BatchGetLifecyclePolicyRequest batchGetLifecyclePolicyRequest,
                                                                     final ProxyClient<OpenSearchServerlessClient> proxyClient,
+                                                                    final ResourceHandlerRequest<ResourceModel> request,
                                                                     final Logger logger) {
         BatchGetLifecyclePolicyResponse batchGetLifecyclePolicyResponse;
         try {
             logger.log(String.format("Sending batchGet lifecycle policy request: %s", batchGetLifecyclePolicyRequest));
             batchGetLifecyclePolicyResponse = proxyClient.injectCredentialsAndInvokeV2(batchGetLifecyclePolicyRequest, proxyClient.client()::batchGetLifecyclePolicy);
-            if (!batchGetLifecyclePolicyResponse.lifecyclePolicyDetails().isEmpty()) {
-                logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
-                return batchGetLifecyclePolicyResponse;
+            if (batchGetLifecyclePolicyResponse.lifecyclePolicyDetails().isEmpty()) {
+                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, String.format("Name:%s, Type:%s",
+                    batchGetLifecyclePolicyRequest.identifiers().get(0).name(), batchGetLifecyclePolicyRequest.identifiers().get(0).typeAsString()));
             }
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, String.format("Name:%s, Type:%s",
-                batchGetLifecyclePolicyRequest.identifiers().get(0).name(), batchGetLifecyclePolicyRequest.identifiers().get(0).typeAsString()));
+            LIFECYCLE_POLICY_VERSIONS.put(request,
+                Translator.getResourceIdentifier(batchGetLifecyclePolicyRequest.identifiers().get(0)),
+                batchGetLifecyclePolicyResponse.lifecyclePolicyDetails().get(0));
+            logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+            return batchGetLifecyclePolicyResponse;
         } catch (ValidationException e) {
             throw new CfnInvalidRequestException(batchGetLifecyclePolicyRequest.toString() + ", " + e.getMessage(), e);
         } catch (InternalServerException e) {
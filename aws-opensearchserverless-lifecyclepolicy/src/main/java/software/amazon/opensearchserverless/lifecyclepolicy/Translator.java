@@ -1,5 +1,6 @@
 package software.amazon.opensearchserverless.lifecyclepolicy;
 
+import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicyDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicyIdentifier;
 import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicySummary;
@@ -13,14 +14,19 @@ import software.amazon.awssdk.services.opensearchserverless.model.ListLifecycleP
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateLifecyclePolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateLifecyclePolicyResponse;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class Translator {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     /**
      * Request to create lifecycle policy
      *
@@ -61,6 +67,23 @@ public class Translator {
             .build();
     }
 
+    /**
+     * Request to read lifecycle policies in a batch
+     *
+     * @param models resource models, no more than BatchGetLifecyclePolicy accepts
+     * @return awsRequest the aws service request to describe the lifecycle policies
+     */
+    static BatchGetLifecyclePolicyRequest translateToBatchReadRequest(final List<ResourceModel> models) {
+        return BatchGetLifecyclePolicyRequest.builder()
+            .identifiers(models.stream()
+                .map(model -> LifecyclePolicyIdentifier.builder()
+                    .name(model.getName())
+                    .type(model.getType())
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+
     /**
      * Translates LifecyclePolicies policy object from sdk into a resource model
      *
@@ -138,6 +161,32 @@ public class Translator {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Whether the desired state differs from the current lifecycle policy. Properties left unset in the model are not
+     * updated, and policies are compared as parsed JSON so that formatting and key order are not seen as changes.
+     *
+     * @param model resource model
+     * @param currentLifecyclePolicyDetail the current lifecycle policy
+     * @return true if an update call is needed
+     */
+    static boolean isUpdateRequired(final ResourceModel model, final LifecyclePolicyDetail currentLifecyclePolicyDetail) {
+        final String currentDescription = Optional.ofNullable(currentLifecyclePolicyDetail.description()).orElse("");
+        return (model.getDescription() != null && !model.getDescription().equals(currentDescription))
+            || (model.getPolicy() != null && !isSamePolicy(model.getPolicy(), currentLifecyclePolicyDetail.policy()));
+    }
+
+    private static boolean isSamePolicy(final String policy, final Document currentPolicy) {
+        if (currentPolicy == null) {
+            return false;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(policy).equals(OBJECT_MAPPER.readTree(currentPolicy.toString()));
+        } catch (IOException e) {
+            // not valid JSON, let the service validate it
+            return false;
+        }
+    }
+
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection).stream().flatMap(Collection::stream);
     }
@@ -160,7 +209,7 @@ public class Translator {
             .build();
     }
 
-    private static ResourceModel translateLifecyclePolicyDetailFromSDK(LifecyclePolicyDetail lifecyclePolicyDetail) {
+    static ResourceModel translateLifecyclePolicyDetailFromSDK(LifecyclePolicyDetail lifecyclePolicyDetail) {
         return ResourceModel.builder()
             .type(lifecyclePolicyDetail.typeAsString())
             .name(lifecyclePolicyDetail.name())
@@ -174,6 +223,14 @@ public class Translator {
         return String.format("%s|%s", updateLifecyclePolicyRequest.typeAsString(), updateLifecyclePolicyRequest.name());
     }
 
+    static String getResourceIdentifier(final ResourceModel model) {
+        return String.format("%s|%s", model.getType(), model.getName());
+    }
+
+    static String getResourceIdentifier(final LifecyclePolicyDetail lifecyclePolicyDetail) {
+        return String.format("%s|%s", lifecyclePolicyDetail.typeAsString(), lifecyclePolicyDetail.name());
+    }
+
     static String getResourceIdentifier(final LifecyclePolicyIdentifier lifecyclePolicyIdentifier) {
         return String.format("%s|%s", lifecyclePolicyIdentifier.typeAsString(), lifecyclePolicyIdentifier.name());
     }
@@ -1,17 +1,18 @@
 package software.amazon.opensearchserverless.lifecyclepolicy;
 
-import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.BatchGetLifecyclePolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.BatchGetLifecyclePolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.ConflictException;
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
+import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicyDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.opensearchserverless.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateLifecyclePolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateLifecyclePolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -45,27 +46,39 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                           final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Type cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Name cannot be empty");
         }
 
-        if (StringUtils.isNullOrEmpty(model.getDescription()) && StringUtils.isNullOrEmpty(model.getPolicy())) {
+        if (StringUtils.isEmpty(model.getDescription()) && StringUtils.isEmpty(model.getPolicy())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "One of Description or Policy is required");
         }
 
+        // update optimistically with the version the container last read or wrote, when that version already needs an
+        // update, instead of reading the policy first; the service still fails an update of a missing policy
+        final String resourceId = getResourceIdentifier(model);
+        final LifecyclePolicyDetail knownLifecyclePolicyDetail = LIFECYCLE_POLICY_VERSIONS.get(request, resourceId);
+        final boolean optimistic = knownLifecyclePolicyDetail != null && knownLifecyclePolicyDetail.policyVersion() != null
+            && Translator.isUpdateRequired(model, knownLifecyclePolicyDetail);
+        if (optimistic) {
+            logger.log(String.format("%s has a known policy version %s, skipping the read before update", ResourceModel.TYPE_NAME,
+                knownLifecyclePolicyDetail.policyVersion()));
+            callbackContext.setCurrentLifecyclePolicyDetail(knownLifecyclePolicyDetail);
+        }
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             // STEP 1 [check if resource already exists]
             // for more information ->
             // https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
             // if target API does not support 'ResourceNotFoundException' then following check is required
-            .then(progress ->
+            .then(progress -> optimistic ? progress :
                 // STEP 1.0 [initialize a proxy context]
                 // If your service API does not return ResourceNotFoundException
                 // on update requests against some identifier (e.g; resource Name)
@@ -85,12 +98,22 @@ public class UpdateHandler extends BaseHandlerStd {
                         // If describe request does not return ResourceNotFoundException,
                         // you must throw ResourceNotFoundException based on
                         // awsResponse values
-                        BatchGetLifecyclePolicyResponse awsResponse = batchGetLifecyclePolicy(awsRequest, client, logger);
+                        BatchGetLifecyclePolicyResponse awsResponse = batchGetLifecyclePolicy(awsRequest, client, request, logger);
                         callbackContext.setCurrentLifecyclePolicyDetail(awsResponse.lifecyclePolicyDetails().get(0));
                         return awsResponse;
                     })
                     .progress()
             )
+            .then(progress -> {
+                // skip the update call, and the version bump that comes with it, when the policy as just read from the
+                // service already is in the desired state; never on the known version, which is only a cached detail
+                if (optimistic || Translator.isUpdateRequired(progress.getResourceModel(), callbackContext.getCurrentLifecyclePolicyDetail())) {
+                    return progress;
+                }
+                logger.log(String.format("%s is already in the desired state, skipping update", ResourceModel.TYPE_NAME));
+                return ProgressEvent.defaultSuccessHandler(
+                    Translator.translateLifecyclePolicyDetailFromSDK(callbackContext.getCurrentLifecyclePolicyDetail()));
+            })
             .then(progress ->
                 // STEP 2.0 [initialize a proxy context]
                 // Implement client invocation of the update request through the proxyClient,
@@ -100,13 +123,50 @@ public class UpdateHandler extends BaseHandlerStd {
                         proxyClient, request.getDesiredResourceState(), callbackContext)
                     .translateToServiceRequest(resourceModel -> Translator.translateToUpdateRequest(resourceModel,
                         callbackContext.getCurrentLifecyclePolicyDetail()))
-                    .makeServiceCall((awsRequest, client) -> updateLifecyclePolicy(awsRequest, client, logger))
+                    .makeServiceCall((awsRequest, client) -> optimistic
+                        ? updateLifecyclePolicyWithKnownVersion(awsRequest, client, request, callbackContext, logger)
+                        : updateLifecyclePolicy(awsRequest, client, request, logger))
                     .done(awsResponse -> ProgressEvent.defaultSuccessHandler(
                         Translator.translateFromUpdateResponse(awsResponse))));
     }
 
+    /**
+     * Update with the policy version the container last read or wrote. A stale version fails with a conflict, the
+     * policy is then read and, if it still needs the update, updated once more with its current version.
+     *
+     * @param updateLifecyclePolicyRequest the aws service request to update the lifecycle policy, with the known version
+     * @param proxyClient                  the aws service client to make the call
+     * @param request                      the handler request
+     * @param callbackContext              the callback context, holding the current lifecycle policy detail
+     * @param logger                       the logger
+     * @return the aws service response
+     */
+    private UpdateLifecyclePolicyResponse updateLifecyclePolicyWithKnownVersion(final UpdateLifecyclePolicyRequest updateLifecyclePolicyRequest,
+                                                                                final ProxyClient<OpenSearchServerlessClient> proxyClient,
+                                                                                final ResourceHandlerRequest<ResourceModel> request,
+                                                                                final CallbackContext callbackContext,
+                                                                                final Logger logger) {
+        try {
+            return updateLifecyclePolicy(updateLifecyclePolicyRequest, proxyClient, request, logger);
+        } catch (CfnResourceConflictException e) {
+            logger.log(String.format("%s policy version %s is stale, reading the lifecycle policy",
+                ResourceModel.TYPE_NAME, updateLifecyclePolicyRequest.policyVersion()));
+        }
+        final LifecyclePolicyDetail currentLifecyclePolicyDetail = batchGetLifecyclePolicy(
+            Translator.translateToReadRequest(request.getDesiredResourceState()), proxyClient, request, logger)
+            .lifecyclePolicyDetails().get(0);
+        callbackContext.setCurrentLifecyclePolicyDetail(currentLifecyclePolicyDetail);
+        if (!Translator.isUpdateRequired(request.getDesiredResourceState(), currentLifecyclePolicyDetail)) {
+            logger.log(String.format("%s is already in the desired state, skipping update", ResourceModel.TYPE_NAME));
+            return UpdateLifecyclePolicyResponse.builder().lifecyclePolicyDetail(currentLifecyclePolicyDetail).build();
+        }
+        return updateLifecyclePolicy(Translator.translateToUpdateRequest(request.getDesiredResourceState(),
+            currentLifecyclePolicyDetail), proxyClient, request, logger);
+    }
+
     private UpdateLifecyclePolicyResponse updateLifecyclePolicy(final UpdateLifecyclePolicyRequest updateLifecyclePolicyRequest,
                                                                 final ProxyClient<OpenSearchServerlessClient> proxyClient,
+                                                                final ResourceHandlerRequest<ResourceModel> request,
                                                                 final Logger logger) {
         UpdateLifecyclePolicyResponse updateLifecyclePolicyResponse;
         try {
@@ -118,6 +178,8 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (ValidationException e) {
             throw new CfnInvalidRequestException(updateLifecyclePolicyRequest.toString() + ", " + e.getMessage(), e);
         } catch (ConflictException e) {
+            LIFECYCLE_POLICY_VERSIONS.remove(request,
+                getResourceIdentifierForUpdateLifecyclePolicyRequest(updateLifecyclePolicyRequest));
             throw new CfnResourceConflictException(ResourceModel.TYPE_NAME,
                 getResourceIdentifierForUpdateLifecyclePolicyRequest(updateLifecyclePolicyRequest),
                 e.getMessage(),
@@ -129,23 +191,30 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (AwsServiceException e) {
             throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME, e);
         }
+        LIFECYCLE_POLICY_VERSIONS.put(request, getResourceIdentifierForUpdateLifecyclePolicyRequest(updateLifecyclePolicyRequest),
+            updateLifecyclePolicyResponse.lifecyclePolicyDetail());
         logger.log(String.format("%s successfully updated for %s", ResourceModel.TYPE_NAME, updateLifecyclePolicyRequest));
         return updateLifecyclePolicyResponse;
     }
 
     private BatchGetLifecyclePolicyResponse batchGetLifecyclePolicy(final BatchGetLifecyclePolicyRequest batchGetLifecyclePolicyRequest,
                                                                     final ProxyClient<OpenSearchServerlessClient> proxyClient,
+                                                                    final ResourceHandlerRequest<ResourceModel> request,
                                                                     final Logger logger) {
         BatchGetLifecyclePolicyResponse batchGetLifecyclePolicyResponse;
         try {
             logger.log(String.format("Sending batchGet lifecycle policy request: %s", batchGetLifecyclePolicyRequest));
-            batchGetLifecyclePolicyResponse = proxyClient.injectCredentialsAndInvokeV2(batchGetLifecyclePolicyRequest, proxyClient.client()::batchGetLifecyclePolicy);
-            if (!batchGetLifecyclePolicyResponse.lifecyclePolicyDetails().isEmpty()) {
-                logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
-                return batchGetLifecyclePolicyResponse;
+            // read through to the service, a cached detail may be stale and must not decide whether to update
+            batchGetLifecyclePolicyResponse = proxyClient.injectCredentialsAndInvokeV2(batchGetLifecyclePolicyRequest,
+                proxyClient.client()::batchGetLifecyclePolicy);
+            if (batchGetLifecyclePolicyResponse.lifecyclePolicyDetails().isEmpty()) {
+                throw new CfnNotFoundException(ResourceModel.TYPE_NAME,
+                    getResourceIdentifier(batchGetLifecyclePolicyRequest.identifiers().get(0)));
             }
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME,
-                getResourceIdentifier(batchGetLifecyclePolicyRequest.identifiers().get(0)));
+            LIFECYCLE_POLICY_VERSIONS.put(request, getResourceIdentifier(batchGetLifecyclePolicyRequest.identifiers().get(0)),
+                batchGetLifecyclePolicyResponse.lifecyclePolicyDetails().get(0));
+            logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+            return batchGetLifecyclePolicyResponse;
         } catch (ValidationException e) {
             throw new CfnInvalidRequestException(batchGetLifecyclePolicyRequest.toString() + ", " + e.getMessage(), e);
         } catch (InternalServerException e) {
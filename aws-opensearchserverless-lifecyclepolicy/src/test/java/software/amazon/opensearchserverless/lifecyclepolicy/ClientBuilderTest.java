@@ -0,0 +1,27 @@
+package software.amazon.opensearchserverless.lifecyclepolicy;
+
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.regions.Region;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+
+    @Test
+    public void newHttpClient_Apache() {
+        try (SdkHttpClient httpClient = ClientBuilder.newHttpClient()) {
+            assertThat(httpClient.clientName()).isEqualTo("Apache");
+        }
+    }
+
+    @Test
+    public void newClientBuilder_BuildsClient() {
+        ClientBuilder.newClientBuilder().region(Region.US_EAST_1).build().close();
+    }
+
+    @Test
+    public void newAsyncClientBuilder_BuildsClient() {
+        ClientBuilder.newAsyncClientBuilder().region(Region.US_EAST_1).build().close();
+    }
+}
@@ -4,8 +4,14 @@ import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.BatchGetLifecyclePolicyRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.BatchGetLifecyclePolicyResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicyDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicySummary;
 import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicyType;
 import software.amazon.awssdk.services.opensearchserverless.model.ListLifecyclePoliciesRequest;
@@ -18,10 +24,18 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +65,7 @@ public class ListHandlerTest extends AbstractTestBase {
         );
         final ListLifecyclePoliciesResponse listLifecyclePoliciesResponse = ListLifecyclePoliciesResponse.builder().lifecyclePolicySummaries(lifecyclePolicySummaries).build();
         when(openSearchServerlessClient.listLifecyclePolicies(any(ListLifecyclePoliciesRequest.class))).thenReturn(listLifecyclePoliciesResponse);
+        stubBatchGetLifecyclePolicy();
 
         final ResourceModel model = ResourceModel.builder().type(MOCK_LIFECYCLE_POLICY_TYPE).build();
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
@@ -67,4 +82,105 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_FullModels_ReadsInBatches() {
+        final ListHandler handler = new ListHandler(openSearchServerlessClient);
+
+        final List<LifecyclePolicySummary> lifecyclePolicySummaries = IntStream.range(0, ListHandler.MAX_BATCH_SIZE + 1)
+            .mapToObj(i -> LifecyclePolicySummary.builder().type(MOCK_LIFECYCLE_POLICY_TYPE).name("policy-name-" + i).build())
+            .collect(Collectors.toList());
+        when(openSearchServerlessClient.listLifecyclePolicies(any(ListLifecyclePoliciesRequest.class)))
+            .thenReturn(ListLifecyclePoliciesResponse.builder().lifecyclePolicySummaries(lifecyclePolicySummaries).build());
+        when(openSearchServerlessClient.batchGetLifecyclePolicy(any(BatchGetLifecyclePolicyRequest.class)))
+            .thenAnswer(invocation -> BatchGetLifecyclePolicyResponse.builder()
+                .lifecyclePolicyDetails(invocation.getArgument(0, BatchGetLifecyclePolicyRequest.class).identifiers().stream()
+                    .filter(identifier -> !identifier.name().equals("policy-name-1"))
+                    .map(identifier -> LifecyclePolicyDetail.builder()
+                        .type(identifier.type())
+                        .name(identifier.name())
+                        .policy(Document.fromString("policy"))
+                        .build())
+                    .collect(Collectors.toList()))
+                .build());
+
+        final ResourceModel model = ResourceModel.builder().type(MOCK_LIFECYCLE_POLICY_TYPE).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(lifecyclePolicySummaries.size() - 1);
+        assertThat(response.getResourceModels().get(0).getName()).isEqualTo("policy-name-0");
+        assertThat(response.getResourceModels().get(1).getName()).isEqualTo("policy-name-2");
+        assertThat(response.getResourceModels()).allSatisfy(resourceModel -> assertThat(resourceModel.getPolicy()).isNotNull());
+
+        final ArgumentCaptor<BatchGetLifecyclePolicyRequest> captor = ArgumentCaptor.forClass(BatchGetLifecyclePolicyRequest.class);
+        verify(openSearchServerlessClient, times(2)).batchGetLifecyclePolicy(captor.capture());
+        assertThat(captor.getAllValues().get(0).identifiers()).hasSize(ListHandler.MAX_BATCH_SIZE);
+        assertThat(captor.getAllValues().get(1).identifiers()).hasSize(1);
+    }
+
+    @Test
+    public void handleRequest_WithoutType_ListsEveryType() {
+        final ListHandler handler = new ListHandler(openSearchServerlessClient);
+
+        final ListLifecyclePoliciesResponse listLifecyclePoliciesResponse = ListLifecyclePoliciesResponse.builder()
+            .lifecyclePolicySummaries(LifecyclePolicySummary.builder().type(MOCK_LIFECYCLE_POLICY_TYPE).name(MOCK_LIFECYCLE_POLICY_NAME_1).build())
+            .nextToken("retention-token")
+            .build();
+        when(openSearchServerlessClient.listLifecyclePolicies(any(ListLifecyclePoliciesRequest.class))).thenReturn(listLifecyclePoliciesResponse);
+        stubBatchGetLifecyclePolicy();
+
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getName).containsExactly(MOCK_LIFECYCLE_POLICY_NAME_1);
+        assertThat(MultiTypeListing.decode(response.getNextToken(), ListHandler.TYPES))
+            .containsExactly(Map.entry(LifecyclePolicyType.RETENTION.toString(), "retention-token"));
+
+        final ArgumentCaptor<ListLifecyclePoliciesRequest> captor = ArgumentCaptor.forClass(ListLifecyclePoliciesRequest.class);
+        verify(openSearchServerlessClient).listLifecyclePolicies(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(LifecyclePolicyType.RETENTION);
+    }
+
+    @Test
+    public void handleRequest_AsyncClient_ListsEveryTypeAtOnce() {
+        final OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient = mock(OpenSearchServerlessAsyncClient.class);
+        final ListHandler handler = new ListHandler(openSearchServerlessClient, openSearchServerlessAsyncClient);
+        when(openSearchServerlessAsyncClient.listLifecyclePolicies(any(ListLifecyclePoliciesRequest.class))).thenAnswer(invocation -> {
+            final String type = invocation.getArgument(0, ListLifecyclePoliciesRequest.class).typeAsString();
+            return CompletableFuture.completedFuture(ListLifecyclePoliciesResponse.builder()
+                .lifecyclePolicySummaries(LifecyclePolicySummary.builder().name(type + "-1").type(type).build())
+                .build());
+        });
+        stubBatchGetLifecyclePolicy();
+
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build()).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getType).containsExactlyElementsOf(ListHandler.TYPES);
+        assertThat(response.getNextToken()).isNull();
+        verify(openSearchServerlessAsyncClient, times(ListHandler.TYPES.size())).listLifecyclePolicies(any(ListLifecyclePoliciesRequest.class));
+        verify(openSearchServerlessClient, never()).listLifecyclePolicies(any(ListLifecyclePoliciesRequest.class));
+    }
+
+    private void stubBatchGetLifecyclePolicy() {
+        when(openSearchServerlessClient.batchGetLifecyclePolicy(any(BatchGetLifecyclePolicyRequest.class)))
+            .thenAnswer(invocation -> BatchGetLifecyclePolicyResponse.builder()
+                .lifecyclePolicyDetails(invocation.getArgument(0, BatchGetLifecyclePolicyRequest.class).identifiers().stream()
+                    .map(identifier -> LifecyclePolicyDetail.builder()
+                        .type(identifier.type())
+                        .name(identifier.name())
+                        .policy(Document.fromString("policy"))
+                        .build())
+                    .collect(Collectors.toList()))
+                .build());
+    }
 }
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
@@ -36,6 +37,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -46,6 +49,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     private static final String MOCK_LIFECYCLE_POLICY_TYPE = LifecyclePolicyType.RETENTION.name();
     private static final String MOCK_LIFECYCLE_POLICY_NAME = "lifecycle-policy-name";
     private static final String MOCK_LIFECYCLE_POLICY_DESCRIPTION = "Lifecycle policy description";
+    private static final String MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION = "Previous lifecycle policy description";
     private static final Document MOCK_LIFECYCLE_POLICY_DOCUMENT = Document.fromString("Lifecycle Policy Document");
 
     private static final String MOCK_LIFECYCLE_POLICY_VERSION = "Mock Lifecycle Policy Version";
@@ -55,6 +59,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
+        BaseHandlerStd.LIFECYCLE_POLICY_VERSIONS.clear();
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         openSearchServerlessClient = mock(OpenSearchServerlessClient.class);
         proxyClient = MOCK_PROXY(proxy, openSearchServerlessClient);
@@ -95,7 +100,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                     LifecyclePolicyDetail.builder()
                         .name(MOCK_LIFECYCLE_POLICY_NAME)
                         .type(MOCK_LIFECYCLE_POLICY_TYPE)
-                        .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+                        .description(MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION)
                         .policy(MOCK_LIFECYCLE_POLICY_DOCUMENT)
                         .policyVersion(MOCK_LIFECYCLE_POLICY_VERSION)
                         .build()
@@ -122,6 +127,113 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_KnownVersion_SkipsRead() {
+        final UpdateHandler handler = new UpdateHandler(openSearchServerlessClient);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(MOCK_LIFECYCLE_POLICY_NAME)
+            .type(MOCK_LIFECYCLE_POLICY_TYPE)
+            .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+            .policy(MOCK_LIFECYCLE_POLICY_DOCUMENT.toString())
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        BaseHandlerStd.LIFECYCLE_POLICY_VERSIONS.put(request, Translator.getResourceIdentifier(model),
+            lifecyclePolicyDetail(MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION, MOCK_LIFECYCLE_POLICY_VERSION));
+
+        when(openSearchServerlessClient.updateLifecyclePolicy(any(UpdateLifecyclePolicyRequest.class)))
+            .thenReturn(UpdateLifecyclePolicyResponse.builder()
+                .lifecyclePolicyDetail(lifecyclePolicyDetail(MOCK_LIFECYCLE_POLICY_DESCRIPTION, "Next Lifecycle Policy Version"))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDescription()).isEqualTo(MOCK_LIFECYCLE_POLICY_DESCRIPTION);
+        final ArgumentCaptor<UpdateLifecyclePolicyRequest> updateLifecyclePolicyRequestCaptor = ArgumentCaptor.forClass(UpdateLifecyclePolicyRequest.class);
+        verify(openSearchServerlessClient).updateLifecyclePolicy(updateLifecyclePolicyRequestCaptor.capture());
+        assertThat(updateLifecyclePolicyRequestCaptor.getValue().policyVersion()).isEqualTo(MOCK_LIFECYCLE_POLICY_VERSION);
+        verify(openSearchServerlessClient, never()).batchGetLifecyclePolicy(any(BatchGetLifecyclePolicyRequest.class));
+        assertThat(BaseHandlerStd.LIFECYCLE_POLICY_VERSIONS.get(request, Translator.getResourceIdentifier(model)).policyVersion())
+            .isEqualTo("Next Lifecycle Policy Version");
+    }
+
+    @Test
+    public void handleRequest_StaleKnownVersion_ReadsAndRetries() {
+        final UpdateHandler handler = new UpdateHandler(openSearchServerlessClient);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(MOCK_LIFECYCLE_POLICY_NAME)
+            .type(MOCK_LIFECYCLE_POLICY_TYPE)
+            .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+            .policy(MOCK_LIFECYCLE_POLICY_DOCUMENT.toString())
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        BaseHandlerStd.LIFECYCLE_POLICY_VERSIONS.put(request, Translator.getResourceIdentifier(model),
+            lifecyclePolicyDetail(MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION, "Stale Lifecycle Policy Version"));
+
+        when(openSearchServerlessClient.updateLifecyclePolicy(any(UpdateLifecyclePolicyRequest.class)))
+            .thenThrow(ConflictException.builder().message("Policy version mismatch").build())
+            .thenReturn(UpdateLifecyclePolicyResponse.builder()
+                .lifecyclePolicyDetail(lifecyclePolicyDetail(MOCK_LIFECYCLE_POLICY_DESCRIPTION, "Next Lifecycle Policy Version"))
+                .build());
+        when(openSearchServerlessClient.batchGetLifecyclePolicy(any(BatchGetLifecyclePolicyRequest.class)))
+            .thenReturn(BatchGetLifecyclePolicyResponse.builder()
+                .lifecyclePolicyDetails(lifecyclePolicyDetail(MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION, MOCK_LIFECYCLE_POLICY_VERSION))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<UpdateLifecyclePolicyRequest> updateLifecyclePolicyRequestCaptor = ArgumentCaptor.forClass(UpdateLifecyclePolicyRequest.class);
+        verify(openSearchServerlessClient, times(2)).updateLifecyclePolicy(updateLifecyclePolicyRequestCaptor.capture());
+        assertThat(updateLifecyclePolicyRequestCaptor.getAllValues())
+            .extracting(UpdateLifecyclePolicyRequest::policyVersion)
+            .containsExactly("Stale Lifecycle Policy Version", MOCK_LIFECYCLE_POLICY_VERSION);
+        verify(openSearchServerlessClient).batchGetLifecyclePolicy(any(BatchGetLifecyclePolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoChange_SkipsUpdate() {
+        final UpdateHandler handler = new UpdateHandler(openSearchServerlessClient);
+
+        final Document currentPolicy = Document.mapBuilder()
+            .putList("Rules", rules -> rules.addMap(rule -> rule
+                .putString("ResourceType", "index")
+                .putList("Resource", resources -> resources.addString("index/logs/*"))
+                .putString("MinIndexRetention", "7d")))
+            .build();
+        final BatchGetLifecyclePolicyResponse batchGetLifecyclePolicyResponse =
+            BatchGetLifecyclePolicyResponse.builder()
+                .lifecyclePolicyDetails(
+                    LifecyclePolicyDetail.builder()
+                        .name(MOCK_LIFECYCLE_POLICY_NAME)
+                        .type(MOCK_LIFECYCLE_POLICY_TYPE)
+                        .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+                        .policy(currentPolicy)
+                        .policyVersion(MOCK_LIFECYCLE_POLICY_VERSION)
+                        .build()
+                ).build();
+        when(openSearchServerlessClient.batchGetLifecyclePolicy(any(BatchGetLifecyclePolicyRequest.class))).thenReturn(batchGetLifecyclePolicyResponse);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(MOCK_LIFECYCLE_POLICY_NAME)
+            .type(MOCK_LIFECYCLE_POLICY_TYPE)
+            .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+            .policy("{\n  \"Rules\": [{\"MinIndexRetention\": \"7d\", \"Resource\": [\"index/logs/*\"], \"ResourceType\": \"index\"}]\n}")
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDescription()).isEqualTo(MOCK_LIFECYCLE_POLICY_DESCRIPTION);
+        assertThat(response.getResourceModel().getPolicy()).isEqualTo(currentPolicy.toString());
+
+        verify(openSearchServerlessClient).batchGetLifecyclePolicy(any(BatchGetLifecyclePolicyRequest.class));
+        verify(openSearchServerlessClient, never()).updateLifecyclePolicy(any(UpdateLifecyclePolicyRequest.class));
+    }
+
     @Test
     public void handleRequest_ConflictException_Fail() {
         when(openSearchServerlessClient.updateLifecyclePolicy(any(UpdateLifecyclePolicyRequest.class)))
@@ -135,7 +247,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 LifecyclePolicyDetail.builder()
                                         .name(MOCK_LIFECYCLE_POLICY_NAME)
                                         .type(MOCK_LIFECYCLE_POLICY_TYPE)
-                                        .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+                                        .description(MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_LIFECYCLE_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_LIFECYCLE_POLICY_VERSION)
                                         .build()
@@ -169,7 +281,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 LifecyclePolicyDetail.builder()
                                         .name(MOCK_LIFECYCLE_POLICY_NAME)
                                         .type(MOCK_LIFECYCLE_POLICY_TYPE)
-                                        .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+                                        .description(MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_LIFECYCLE_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_LIFECYCLE_POLICY_VERSION)
                                         .build()
@@ -203,7 +315,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 LifecyclePolicyDetail.builder()
                                         .name(MOCK_LIFECYCLE_POLICY_NAME)
                                         .type(MOCK_LIFECYCLE_POLICY_TYPE)
-                                        .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+                                        .description(MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_LIFECYCLE_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_LIFECYCLE_POLICY_VERSION)
                                         .build()
@@ -237,7 +349,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 LifecyclePolicyDetail.builder()
                                         .name(MOCK_LIFECYCLE_POLICY_NAME)
                                         .type(MOCK_LIFECYCLE_POLICY_TYPE)
-                                        .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+                                        .description(MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_LIFECYCLE_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_LIFECYCLE_POLICY_VERSION)
                                         .build()
@@ -271,7 +383,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 LifecyclePolicyDetail.builder()
                                         .name(MOCK_LIFECYCLE_POLICY_NAME)
                                         .type(MOCK_LIFECYCLE_POLICY_TYPE)
-                                        .description(MOCK_LIFECYCLE_POLICY_DESCRIPTION)
+                                        .description(MOCK_LIFECYCLE_POLICY_PREVIOUS_DESCRIPTION)
                                         .policy(MOCK_LIFECYCLE_POLICY_DOCUMENT)
                                         .policyVersion(MOCK_LIFECYCLE_POLICY_VERSION)
                                         .build()
@@ -291,4 +403,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(openSearchServerlessClient).updateLifecyclePolicy(any(UpdateLifecyclePolicyRequest.class));
     }
+
+    private static LifecyclePolicyDetail lifecyclePolicyDetail(final String description, final String policyVersion) {
+        return LifecyclePolicyDetail.builder()
+            .name(MOCK_LIFECYCLE_POLICY_NAME)
+            .type(MOCK_LIFECYCLE_POLICY_TYPE)
+            .description(description)
+            .policy(MOCK_LIFECYCLE_POLICY_DOCUMENT)
+            .policyVersion(policyVersion)
+            .build();
+    }
 }
@@ -0,0 +1,76 @@
+package software.amazon.opensearchserverless.lifecyclepolicy;
+
+import software.amazon.awssdk.services.opensearchserverless.model.LifecyclePolicyDetail;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VersionCacheTest {
+
+    private static final String RESOURCE_ID = "retention|lifecycle-policy-name";
+
+    private VersionCache<LifecyclePolicyDetail> cache;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @BeforeEach
+    public void setup() {
+        cache = new VersionCache<>(2);
+        request = request("123456789012", "us-east-1");
+    }
+
+    @Test
+    public void get_LastPutDetail() {
+        cache.put(request, RESOURCE_ID, detail("1"));
+        cache.put(request, RESOURCE_ID, detail("2"));
+
+        assertThat(cache.get(request, RESOURCE_ID).policyVersion()).isEqualTo("2");
+        assertThat(cache.get(request, "retention|other-lifecycle-policy-name")).isNull();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_ScopedByAccountAndRegion() {
+        cache.put(request, RESOURCE_ID, detail("1"));
+
+        assertThat(cache.get(request("123456789012", "us-west-2"), RESOURCE_ID)).isNull();
+        assertThat(cache.get(request("210987654321", "us-east-1"), RESOURCE_ID)).isNull();
+    }
+
+    @Test
+    public void putNullOrRemove_ForgetsDetail() {
+        cache.put(request, RESOURCE_ID, detail("1"));
+        cache.put(request, RESOURCE_ID, null);
+        assertThat(cache.get(request, RESOURCE_ID)).isNull();
+
+        cache.put(request, RESOURCE_ID, detail("1"));
+        cache.remove(request, RESOURCE_ID);
+        assertThat(cache.get(request, RESOURCE_ID)).isNull();
+    }
+
+    @Test
+    public void put_EvictsLeastRecentlyUsed() {
+        cache.put(request, "retention|a", detail("1"));
+        cache.put(request, "retention|b", detail("1"));
+        cache.get(request, "retention|a");
+        cache.put(request, "retention|c", detail("1"));
+
+        assertThat(cache.get(request, "retention|a")).isNotNull();
+        assertThat(cache.get(request, "retention|b")).isNull();
+        assertThat(cache.get(request, "retention|c")).isNotNull();
+    }
+
+    private static LifecyclePolicyDetail detail(final String policyVersion) {
+        return LifecyclePolicyDetail.builder().name("lifecycle-policy-name").type("retention").policyVersion(policyVersion).build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final String awsAccountId, final String region) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId(awsAccountId)
+            .region(region)
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+    }
+}
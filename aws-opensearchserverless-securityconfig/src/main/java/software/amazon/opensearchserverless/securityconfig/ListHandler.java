@@ -1,10 +1,12 @@
 package software.amazon.opensearchserverless.securityconfig;
 
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.ListSecurityConfigsRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListSecurityConfigsResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.SecurityConfigType;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -12,11 +14,24 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
-import com.amazonaws.util.StringUtils;
-
+/**
+ * Lists the security configs of a type, or of every type with {@link MultiTypeListing} when the request names none.
+ * The types of a list request that names none are listed at once on the async client, without a thread per type.
+ */
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Types listed when the request names none.
+     */
+    static final List<String> TYPES = SecurityConfigType.knownValues().stream()
+            .map(SecurityConfigType::toString)
+            .sorted()
+            .collect(Collectors.toList());
+
     public ListHandler() {
         super();
     }
@@ -25,6 +40,10 @@ public class ListHandler extends BaseHandlerStd {
         super(openSearchServerlessClient);
     }
 
+    ListHandler(OpenSearchServerlessClient openSearchServerlessClient, OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient) {
+        super(openSearchServerlessClient, openSearchServerlessAsyncClient);
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -34,20 +53,41 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-
-        if(StringUtils.isNullOrEmpty(model.getType())) {
-            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Type cannot be empty");
+        final Optional<ProxyClient<OpenSearchServerlessAsyncClient>> asyncProxyClient = newAsyncProxyClient(proxy);
+        final MultiTypeListing.Page page;
+        if (model != null && !StringUtils.isEmpty(model.getType())) {
+            page = listSecurityConfigs(proxy, proxyClient, model, request.getNextToken());
+        } else if (asyncProxyClient.isPresent()) {
+            page = MultiTypeListing.listAsync(request.getNextToken(), TYPES, (type, cursor) ->
+                    listSecurityConfigsAsync(asyncProxyClient.get(), ResourceModel.builder().type(type).build(), cursor));
+        } else {
+            page = MultiTypeListing.list(request.getNextToken(), TYPES, (type, cursor) ->
+                    listSecurityConfigs(proxy, proxyClient, ResourceModel.builder().type(type).build(), cursor));
         }
 
-        final ListSecurityConfigsRequest listSecurityConfigsRequest = Translator.translateToListRequest(model, request.getNextToken());
-        final ListSecurityConfigsResponse listSecurityConfigsResponse = proxy.injectCredentialsAndInvokeV2(listSecurityConfigsRequest, proxyClient.client()::listSecurityConfigs);
-        String nextToken = listSecurityConfigsResponse.nextToken();
-        final List<ResourceModel> models = Translator.translateFromListRequest(listSecurityConfigsResponse);
-
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                            .resourceModels(models)
-                            .nextToken(nextToken)
+                            .resourceModels(page.getModels())
+                            .nextToken(page.getNextToken())
                             .status(OperationStatus.SUCCESS)
                             .build();
     }
+
+    private MultiTypeListing.Page listSecurityConfigs(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<OpenSearchServerlessClient> proxyClient,
+            final ResourceModel model,
+            final String nextToken) {
+        final ListSecurityConfigsRequest listSecurityConfigsRequest = Translator.translateToListRequest(model, nextToken);
+        final ListSecurityConfigsResponse listSecurityConfigsResponse = proxy.injectCredentialsAndInvokeV2(listSecurityConfigsRequest, proxyClient.client()::listSecurityConfigs);
+        return new MultiTypeListing.Page(Translator.translateFromListRequest(listSecurityConfigsResponse), listSecurityConfigsResponse.nextToken());
+    }
+
+    private static CompletableFuture<MultiTypeListing.Page> listSecurityConfigsAsync(
+            final ProxyClient<OpenSearchServerlessAsyncClient> asyncProxyClient,
+            final ResourceModel model,
+            final String nextToken) {
+        return asyncProxyClient.injectCredentialsAndInvokeV2Async(Translator.translateToListRequest(model, nextToken),
+                        asyncProxyClient.client()::listSecurityConfigs)
+                .thenApply(response -> new MultiTypeListing.Page(Translator.translateFromListRequest(response), response.nextToken()));
+    }
 }
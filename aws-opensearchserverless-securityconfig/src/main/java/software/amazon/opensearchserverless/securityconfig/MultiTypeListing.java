@@ -0,0 +1,140 @@
+package software.amazon.opensearchserverless.securityconfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import lombok.NonNull;
+
+/**
+ * Lists the resources of every type in one pagination, for the list requests that name no type.
+ * <p>
+ * Each page lists the next page of every type that has one and merges them in the order of the types.
+ * The continuation token of the handler encodes the cursor of each of these types, so that a type whose listing has
+ * ended is not listed again.
+ */
+final class MultiTypeListing {
+
+    static final String TOKEN_PREFIX = "types:";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, String>> CURSORS = new TypeReference<LinkedHashMap<String, String>>() {
+    };
+
+    private MultiTypeListing() {
+    }
+
+    /**
+     * Lists the next page of every type that has one, one type after the other.
+     *
+     * @param nextToken the continuation token of the handler, null for the first page
+     * @param types     the types to list, in the order of the merged page
+     * @param listType  lists the page of a type at a cursor, null for the first page of the type
+     * @return the merged page, with the continuation token of the types that have more pages
+     */
+    static Page list(
+        final String nextToken,
+        final @NonNull Collection<String> types,
+        final @NonNull BiFunction<String, String, Page> listType) {
+        return merge(decode(nextToken, types), (type, cursor) ->
+            CompletableFuture.completedFuture(listType.apply(type, cursor)));
+    }
+
+    /**
+     * Lists the next page of every type that has one, with calls that do not block, so that no thread is needed.
+     *
+     * @param nextToken the continuation token of the handler, null for the first page
+     * @param types     the types to list, in the order of the merged page
+     * @param listType  starts listing the page of a type at a cursor, null for the first page of the type
+     * @return the merged page, with the continuation token of the types that have more pages
+     */
+    static Page listAsync(
+        final String nextToken,
+        final @NonNull Collection<String> types,
+        final @NonNull BiFunction<String, String, CompletableFuture<Page>> listType) {
+        return merge(decode(nextToken, types), listType);
+    }
+
+    static Map<String, String> decode(final String nextToken, final Collection<String> types) {
+        if (nextToken == null) {
+            final Map<String, String> cursors = new LinkedHashMap<>();
+            types.forEach(type -> cursors.put(type, null));
+            return cursors;
+        }
+        if (!nextToken.startsWith(TOKEN_PREFIX)) {
+            throw new CfnInvalidRequestException("Invalid nextToken for a list of every type: " + nextToken);
+        }
+        try {
+            final Map<String, String> cursors = OBJECT_MAPPER.readValue(
+                Base64.getUrlDecoder().decode(nextToken.substring(TOKEN_PREFIX.length())), CURSORS);
+            // list the types in the order of the first page, and none that is no longer known
+            return types.stream()
+                .filter(cursors::containsKey)
+                .collect(Collectors.toMap(type -> type, cursors::get, (first, second) -> first, LinkedHashMap::new));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CfnInvalidRequestException("Invalid nextToken for a list of every type: " + nextToken, e);
+        }
+    }
+
+    static String encode(final Map<String, String> cursors) {
+        if (cursors.isEmpty()) {
+            return null;
+        }
+        try {
+            return TOKEN_PREFIX + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(OBJECT_MAPPER.writeValueAsString(cursors).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot encode the cursors " + cursors, e);
+        }
+    }
+
+    private static Page merge(
+        final Map<String, String> cursors,
+        final BiFunction<String, String, CompletableFuture<Page>> listType) {
+        final Map<String, CompletableFuture<Page>> pages = new LinkedHashMap<>();
+        cursors.forEach((type, cursor) -> pages.put(type, listType.apply(type, cursor)));
+        final List<ResourceModel> models = new ArrayList<>();
+        final Map<String, String> nextCursors = new LinkedHashMap<>();
+        pages.forEach((type, page) -> {
+            final Page typePage = join(page);
+            models.addAll(typePage.getModels());
+            if (typePage.getNextToken() != null) {
+                nextCursors.put(type, typePage.getNextToken());
+            }
+        });
+        return new Page(models, encode(nextCursors));
+    }
+
+    private static Page join(final CompletableFuture<Page> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A page of listed resources and the token of the next page, null if it is the last one.
+     */
+    @lombok.Value
+    static class Page {
+        List<ResourceModel> models;
+        String nextToken;
+    }
+}
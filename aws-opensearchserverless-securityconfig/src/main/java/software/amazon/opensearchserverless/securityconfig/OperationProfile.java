@@ -0,0 +1,123 @@
+package software.amazon.opensearchserverless.securityconfig;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+/**
+ * Timeout and retry profile of the service calls, chosen by operation. The reads ({@code Get*}, {@code BatchGet*} and
+ * {@code List*}), which the handlers repeat while polling, get a short attempt timeout and fast retries, so that a
+ * stuck read is retried within seconds, the writes keep the budget of a mutating call.
+ * <p>
+ * The proxy replaces the override configuration of a request when it injects the credentials, so the attempt timeout
+ * is set by {@link Interceptor} on the request the client executes, and the retries by {@link #retryPolicy}.
+ */
+enum OperationProfile {
+    READ(Duration.ofSeconds(10), 3, Duration.ofMillis(50), Duration.ofSeconds(1)),
+    WRITE(Duration.ofSeconds(55), 3, Duration.ofMillis(100), Duration.ofSeconds(20));
+
+    private final Duration attemptTimeout;
+    private final int maxRetries;
+    private final BackoffStrategy backoffStrategy;
+
+    OperationProfile(
+        final Duration attemptTimeout,
+        final int maxRetries,
+        final Duration baseDelay,
+        final Duration maxBackoffTime) {
+        this.attemptTimeout = attemptTimeout;
+        this.maxRetries = maxRetries;
+        this.backoffStrategy = FullJitterBackoffStrategy.builder()
+            .baseDelay(baseDelay)
+            .maxBackoffTime(maxBackoffTime)
+            .build();
+    }
+
+    Duration getAttemptTimeout() {
+        return attemptTimeout;
+    }
+
+    int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @param operationName the service operation name, as in {@link SdkExecutionAttribute#OPERATION_NAME}
+     * @return the profile of the operation, write if it is unknown
+     */
+    static OperationProfile of(final String operationName) {
+        if (operationName != null
+            && (operationName.startsWith("Get") || operationName.startsWith("BatchGet") || operationName.startsWith("List"))) {
+            return READ;
+        }
+        return WRITE;
+    }
+
+    /**
+     * @param request the aws service request
+     * @return the service operation name, as in the name of the request class
+     */
+    static String operationName(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        return requestName.endsWith("Request") ? requestName.substring(0, requestName.length() - "Request".length()) : requestName;
+    }
+
+    /**
+     * Retry policy of the client, retrying each operation as many times and with the backoff of its profile. Retries
+     * are limited by the retry capacity of the client as with the default policy. In the {@link RetryMode#ADAPTIVE}
+     * mode, the client also lowers its own send rate while it is throttled.
+     *
+     * @param retryMode the retry mode of the client
+     * @return the retry policy
+     */
+    static RetryPolicy retryPolicy(final RetryMode retryMode) {
+        return RetryPolicy.builder(retryMode)
+            .numRetries(Arrays.stream(values()).mapToInt(OperationProfile::getMaxRetries).max().orElse(0))
+            .retryCondition(context -> context.retriesAttempted() < of(context).maxRetries
+                && RetryCondition.defaultRetryCondition().shouldRetry(context))
+            .backoffStrategy(context -> of(context).backoffStrategy.computeDelayBeforeNextRetry(context))
+            .build();
+    }
+
+    private static OperationProfile of(final RetryPolicyContext context) {
+        return of(context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+    }
+
+    /**
+     * Sets the attempt timeout of the profile on the requests that do not have one.
+     */
+    static final class Interceptor implements ExecutionInterceptor {
+
+        @Override
+        public SdkRequest modifyRequest(final Context.ModifyRequest context, final ExecutionAttributes executionAttributes) {
+            if (!(context.request() instanceof AwsRequest)) {
+                return context.request();
+            }
+            final AwsRequest request = (AwsRequest) context.request();
+            if (request.overrideConfiguration().flatMap(AwsRequestOverrideConfiguration::apiCallAttemptTimeout).isPresent()) {
+                return request;
+            }
+            final OperationProfile profile = of(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+            return request.toBuilder()
+                .overrideConfiguration(request.overrideConfiguration()
+                    .map(AwsRequestOverrideConfiguration::toBuilder)
+                    .orElseGet(AwsRequestOverrideConfiguration::builder)
+                    .apiCallAttemptTimeout(profile.attemptTimeout)
+                    .build())
+                .build();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import software.amazon.awssdk.services.opensearchserverless.model.*;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -122,6 +123,35 @@ public class Translator {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Whether the desired state differs from the current security config. Properties left unset in the model are not
+     * updated, and SAML metadata is compared after normalizing line endings and the whitespace between elements.
+     *
+     * @param model resource model
+     * @param currentSecurityConfigDetail the current security config
+     * @return true if an update call is needed
+     */
+    static boolean isUpdateRequired(final ResourceModel model, final SecurityConfigDetail currentSecurityConfigDetail) {
+        final String currentDescription = Optional.ofNullable(currentSecurityConfigDetail.description()).orElse("");
+        return (model.getDescription() != null && !model.getDescription().equals(currentDescription))
+            || (model.getSamlOptions() != null
+                && !isSameSamlOptions(model.getSamlOptions(), currentSecurityConfigDetail.samlOptions()));
+    }
+
+    private static boolean isSameSamlOptions(
+        final SamlConfigOptions samlConfigOptions,
+        final software.amazon.awssdk.services.opensearchserverless.model.SamlConfigOptions currentSamlConfigOptions) {
+        return currentSamlConfigOptions != null
+            && normalizeMetadata(samlConfigOptions.getMetadata()).equals(normalizeMetadata(currentSamlConfigOptions.metadata()))
+            && Objects.equals(samlConfigOptions.getUserAttribute(), currentSamlConfigOptions.userAttribute())
+            && Objects.equals(samlConfigOptions.getGroupAttribute(), currentSamlConfigOptions.groupAttribute())
+            && Objects.equals(samlConfigOptions.getSessionTimeout(), currentSamlConfigOptions.sessionTimeout());
+    }
+
+    private static String normalizeMetadata(final String metadata) {
+        return metadata == null ? "" : metadata.replace("\r\n", "\n").replaceAll(">\\s+<", "><").trim();
+    }
+
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection)
             .map(Collection::stream)
@@ -169,7 +199,7 @@ public class Translator {
             .build();
     }
 
-    private static ResourceModel translateSecurityConfigDetailFromSDK(SecurityConfigDetail securityConfigDetail) {
+    static ResourceModel translateSecurityConfigDetailFromSDK(SecurityConfigDetail securityConfigDetail) {
         return ResourceModel.builder()
             .id(securityConfigDetail.id())
             .type(SecurityConfigType.SAML.toString())
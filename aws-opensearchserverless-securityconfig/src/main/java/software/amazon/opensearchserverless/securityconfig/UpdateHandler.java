@@ -3,6 +3,7 @@ package software.amazon.opensearchserverless.securityconfig;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.*;
 import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.*;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -11,8 +12,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import com.amazonaws.util.StringUtils;
-
 public class UpdateHandler extends BaseHandlerStd {
 
     public UpdateHandler() {
@@ -32,11 +31,11 @@ public class UpdateHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        if(StringUtils.isNullOrEmpty(model.getId())) {
+        if(StringUtils.isEmpty(model.getId())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Id cannot be empty");
         }
 
-        if(StringUtils.isNullOrEmpty(model.getDescription()) && model.getSamlOptions() == null) {
+        if(StringUtils.isEmpty(model.getDescription()) && model.getSamlOptions() == null) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "One of description or saml-options is required");
         }
 
@@ -71,6 +70,16 @@ public class UpdateHandler extends BaseHandlerStd {
                     })
                     .progress()
             )
+            .then(progress -> {
+                // skip the update call, and the version bump that comes with it, when the security config as just
+                // read from the service, never from a cache, already is in the desired state
+                if (Translator.isUpdateRequired(progress.getResourceModel(), callbackContext.getCurrentSecurityConfigDetail())) {
+                    return progress;
+                }
+                logger.log(String.format("%s is already in the desired state, skipping update", ResourceModel.TYPE_NAME));
+                return ProgressEvent.defaultSuccessHandler(
+                    Translator.translateSecurityConfigDetailFromSDK(callbackContext.getCurrentSecurityConfigDetail()));
+            })
             .then(progress ->
                 // STEP 2.0 [initialize a proxy context]
                 // Implement client invocation of the update request through the proxyClient,
@@ -116,7 +125,9 @@ public class UpdateHandler extends BaseHandlerStd {
 
         GetSecurityConfigResponse getSecurityConfigResponse;
         try {
-            getSecurityConfigResponse = proxyClient.injectCredentialsAndInvokeV2(getSecurityConfigRequest, proxyClient.client()::getSecurityConfig);
+            // read through to the service, a cached detail may be stale and must not decide whether to update
+            getSecurityConfigResponse =
+                    proxyClient.injectCredentialsAndInvokeV2(getSecurityConfigRequest, proxyClient.client()::getSecurityConfig);
         } catch (ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, getSecurityConfigRequest.id(), e);
         } catch (ValidationException e) {
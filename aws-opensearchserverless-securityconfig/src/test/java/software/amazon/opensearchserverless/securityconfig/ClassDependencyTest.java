@@ -0,0 +1,76 @@
+package software.amazon.opensearchserverless.securityconfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The classes of this module must run on the AWS SDK v2 and the JDK alone, a reference to an AWS SDK v1 or Guava class
+ * would load it during the handler invocations. The generated classes are not checked, nor are the AWS Lambda runtime
+ * interfaces, which share the namespace of the AWS SDK v1.
+ */
+public class ClassDependencyTest {
+
+    private static final Pattern FORBIDDEN_REFERENCE = Pattern.compile("com/(amazonaws|google/common)/[A-Za-z0-9_/$]+");
+    private static final String LAMBDA_RUNTIME = "com/amazonaws/services/lambda/runtime/";
+
+    @Test
+    public void sourceClasses_DoNotReferenceSdkV1OrGuava() throws Exception {
+        final String packagePath = BaseHandlerStd.class.getPackage().getName().replace('.', '/');
+        final Path sources = Paths.get("src/main/java").resolve(packagePath);
+        final Path classes = Paths.get(BaseHandlerStd.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+            .resolve(packagePath);
+
+        final List<String> sourceClassNames;
+        try (Stream<Path> sourceFiles = Files.list(sources)) {
+            sourceClassNames = sourceFiles
+                .map(path -> path.getFileName().toString())
+                .filter(fileName -> fileName.endsWith(".java"))
+                .map(fileName -> fileName.substring(0, fileName.length() - ".java".length()))
+                .collect(Collectors.toList());
+        }
+        assertThat(sourceClassNames).contains(BaseHandlerStd.class.getSimpleName());
+
+        final List<String> forbiddenReferences;
+        try (Stream<Path> classFiles = Files.list(classes)) {
+            forbiddenReferences = classFiles
+                .filter(path -> sourceClassNames.stream().anyMatch(className -> isClassFileOf(path, className)))
+                .flatMap(path -> forbiddenReferences(path).map(reference -> path.getFileName() + " -> " + reference))
+                .collect(Collectors.toList());
+        }
+        assertThat(forbiddenReferences).isEmpty();
+    }
+
+    private static boolean isClassFileOf(final Path classFile, final String className) {
+        final String fileName = classFile.getFileName().toString();
+        return fileName.equals(className + ".class") || fileName.startsWith(className + "$");
+    }
+
+    private static Stream<String> forbiddenReferences(final Path classFile) {
+        final String constants;
+        try {
+            constants = new String(Files.readAllBytes(classFile), StandardCharsets.ISO_8859_1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final Stream.Builder<String> references = Stream.builder();
+        final Matcher matcher = FORBIDDEN_REFERENCE.matcher(constants);
+        while (matcher.find()) {
+            if (!matcher.group().startsWith(LAMBDA_RUNTIME)) {
+                references.add(matcher.group());
+            }
+        }
+        return references.build().distinct();
+    }
+}
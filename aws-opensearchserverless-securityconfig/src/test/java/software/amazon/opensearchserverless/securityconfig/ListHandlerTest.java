@@ -1,12 +1,12 @@
 package software.amazon.opensearchserverless.securityconfig;
 
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.ListSecurityConfigsRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListSecurityConfigsResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.SecurityConfigSummary;
 import software.amazon.awssdk.services.opensearchserverless.model.SecurityConfigType;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -15,11 +15,14 @@ import com.google.common.collect.ImmutableList;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -120,8 +123,13 @@ public class ListHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    @org.junit.jupiter.api.Tag("skipSdkInteraction")
-    public void handleRequest_WithoutType_Fail() {
+    public void handleRequest_WithoutType_ListsEveryType() {
+        final ListSecurityConfigsResponse listSecurityConfigsResponse = ListSecurityConfigsResponse.builder()
+            .securityConfigSummaries(SecurityConfigSummary.builder().id(MOCK_SECURITY_CONFIG_ID_1).type(MOCK_SECURITY_CONFIG_TYPE).build())
+            .nextToken(MOCK_NEXT_TOKEN)
+            .build();
+        when(openSearchServerlessClient.listSecurityConfigs(any(ListSecurityConfigsRequest.class))).thenReturn(listSecurityConfigsResponse);
+
         final ResourceModel model = ResourceModel.builder().build();
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
 
@@ -129,8 +137,36 @@ public class ListHandlerTest extends AbstractTestBase {
             .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
-        assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(MultiTypeListing.decode(response.getNextToken(), ListHandler.TYPES))
+            .containsExactly(Map.entry(SecurityConfigType.SAML.toString(), MOCK_NEXT_TOKEN));
+
+        final ArgumentCaptor<ListSecurityConfigsRequest> captor = ArgumentCaptor.forClass(ListSecurityConfigsRequest.class);
+        verify(openSearchServerlessClient).listSecurityConfigs(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(SecurityConfigType.SAML);
+    }
+
+    @Test
+    public void handleRequest_AsyncClient_ListsEveryTypeAtOnce() {
+        final OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient = mock(OpenSearchServerlessAsyncClient.class);
+        handler = new ListHandler(openSearchServerlessClient, openSearchServerlessAsyncClient);
+        when(openSearchServerlessAsyncClient.listSecurityConfigs(any(ListSecurityConfigsRequest.class))).thenAnswer(invocation -> {
+            final String type = invocation.getArgument(0, ListSecurityConfigsRequest.class).typeAsString();
+            return CompletableFuture.completedFuture(ListSecurityConfigsResponse.builder()
+                .securityConfigSummaries(SecurityConfigSummary.builder().id(type + "-1").type(type).build())
+                .build());
+        });
+
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build()).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getType).containsExactlyElementsOf(ListHandler.TYPES);
+        assertThat(response.getNextToken()).isNull();
+        verify(openSearchServerlessAsyncClient, times(ListHandler.TYPES.size())).listSecurityConfigs(any(ListSecurityConfigsRequest.class));
+        verifyNoInteractions(openSearchServerlessClient);
     }
 }
@@ -0,0 +1,104 @@
+package software.amazon.opensearchserverless.securityconfig;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityConfigRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OperationProfileTest {
+
+    @Test
+    public void of_ReadsAndWrites() {
+        assertThat(OperationProfile.of("GetSecurityConfig")).isEqualTo(OperationProfile.READ);
+        assertThat(OperationProfile.of("GetSecurityPolicy")).isEqualTo(OperationProfile.READ);
+        assertThat(OperationProfile.of("ListCollections")).isEqualTo(OperationProfile.READ);
+        assertThat(OperationProfile.of("CreateCollection")).isEqualTo(OperationProfile.WRITE);
+        assertThat(OperationProfile.of(null)).isEqualTo(OperationProfile.WRITE);
+    }
+
+    @Test
+    public void defaults_ReadsTimeOutSooner() {
+        assertThat(OperationProfile.READ.getAttemptTimeout()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(OperationProfile.WRITE.getAttemptTimeout()).isEqualTo(Duration.ofSeconds(55));
+    }
+
+    @Test
+    public void interceptor_SetsAttemptTimeoutOfProfile() {
+        final StaticCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("accessKey", "secretKey"));
+        final AwsRequest request = GetSecurityConfigRequest.builder()
+            .id("id")
+            .overrideConfiguration(AwsRequestOverrideConfiguration.builder().credentialsProvider(credentialsProvider).build())
+            .build();
+
+        final AwsRequestOverrideConfiguration overrideConfiguration = modifyRequest(request, "GetSecurityConfig")
+            .overrideConfiguration().get();
+
+        assertThat(overrideConfiguration.apiCallAttemptTimeout()).contains(OperationProfile.READ.getAttemptTimeout());
+        assertThat(overrideConfiguration.credentialsProvider()).contains(credentialsProvider);
+    }
+
+    @Test
+    public void interceptor_KeepsAttemptTimeoutOfRequest() {
+        final AwsRequest request = GetSecurityConfigRequest.builder()
+            .id("id")
+            .overrideConfiguration(AwsRequestOverrideConfiguration.builder().apiCallAttemptTimeout(Duration.ofSeconds(1)).build())
+            .build();
+
+        assertThat(modifyRequest(request, "GetSecurityConfig")).isSameAs(request);
+    }
+
+    @Test
+    public void retryPolicy_RetriesUpToMaxRetriesOfProfile() {
+        final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        executionAttributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetSecurityConfig");
+        final InternalServerException exception = InternalServerException.builder().statusCode(500).build();
+
+        assertThat(OperationProfile.retryPolicy(ClientBuilder.RETRY_MODE).retryCondition().shouldRetry(retryContext(executionAttributes, exception,
+            OperationProfile.READ.getMaxRetries() - 1))).isTrue();
+        assertThat(OperationProfile.retryPolicy(ClientBuilder.RETRY_MODE).retryCondition().shouldRetry(retryContext(executionAttributes, exception,
+            OperationProfile.READ.getMaxRetries()))).isFalse();
+        assertThat(OperationProfile.retryPolicy(ClientBuilder.RETRY_MODE).backoffStrategy().computeDelayBeforeNextRetry(retryContext(executionAttributes,
+            exception, 10))).isLessThanOrEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void retryPolicy_Adaptive() {
+        final RetryPolicy retryPolicy = OperationProfile.retryPolicy(ClientBuilder.RETRY_MODE);
+
+        assertThat(retryPolicy.retryMode()).isEqualTo(RetryMode.ADAPTIVE);
+    }
+
+    private static AwsRequest modifyRequest(final AwsRequest request, final String operationName) {
+        final Context.ModifyRequest context = mock(Context.ModifyRequest.class);
+        when(context.request()).thenReturn(request);
+        final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        executionAttributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, operationName);
+        return (AwsRequest) new OperationProfile.Interceptor().modifyRequest(context, executionAttributes);
+    }
+
+    private static RetryPolicyContext retryContext(
+        final ExecutionAttributes executionAttributes, final InternalServerException exception, final int retriesAttempted) {
+        return RetryPolicyContext.builder()
+            .executionAttributes(executionAttributes)
+            .exception(exception)
+            .httpStatusCode(500)
+            .retriesAttempted(retriesAttempted)
+            .build();
+    }
+}
@@ -34,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -43,6 +44,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     private static final String MOCK_SECURITY_CONFIG_ID = "1";
     private static final String MOCK_SECURITY_CONFIG_DESCRIPTION = "Security config description";
+    private static final String MOCK_SECURITY_CONFIG_PREVIOUS_DESCRIPTION = "Previous security config description";
     private static final String MOCK_SECURITY_CONFIG_DESCRIPTION_1 = "Security config description updated";
     private static final String MOCK_SECURITY_CONFIG_TYPE = SecurityConfigType.SAML.toString();
     private static final String MOCK_SECURITY_CONFIG_VERSION = "securityconfigversion";
@@ -99,7 +101,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                     SecurityConfigDetail.builder()
                         .id(MOCK_SECURITY_CONFIG_ID)
                         .configVersion(MOCK_SECURITY_CONFIG_VERSION)
-                        .description(MOCK_SECURITY_CONFIG_DESCRIPTION)
+                        .description(MOCK_SECURITY_CONFIG_PREVIOUS_DESCRIPTION)
                         .samlOptions(MOCK_SDK_SAML_OPTIONS)
                         .build())
                 .build();
@@ -142,13 +144,53 @@ public class UpdateHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void handleRequest_WhenValidationIssue_ThrowsException() {
+    public void handleRequest_NoChange_SkipsUpdate() {
+        final String metadata = "<EntityDescriptor entityID=\"idp\">\n  <IDPSSODescriptor/>\n</EntityDescriptor>";
         final GetSecurityConfigResponse getSecurityConfigResponse =
             GetSecurityConfigResponse.builder().securityConfigDetail(
                     SecurityConfigDetail.builder()
                         .id(MOCK_SECURITY_CONFIG_ID)
                         .configVersion(MOCK_SECURITY_CONFIG_VERSION)
                         .description(MOCK_SECURITY_CONFIG_DESCRIPTION)
+                        .samlOptions(MOCK_SDK_SAML_OPTIONS.toBuilder().metadata(metadata).build())
+                        .build())
+                .build();
+        when(openSearchServerlessClient.getSecurityConfig(any(GetSecurityConfigRequest.class)))
+            .thenReturn(getSecurityConfigResponse);
+
+        final ResourceModel model = ResourceModel.builder()
+            .id(MOCK_SECURITY_CONFIG_ID)
+            .description(MOCK_SECURITY_CONFIG_DESCRIPTION)
+            .samlOptions(SamlConfigOptions.builder()
+                .metadata("<EntityDescriptor entityID=\"idp\">\r\n<IDPSSODescriptor/>\r\n</EntityDescriptor>\r\n")
+                .userAttribute(MOCK_USER_ATTRIBUTE)
+                .groupAttribute(MOCK_GROUP_ATTRIBUTE)
+                .sessionTimeout(MOCK_SESSION_TIMEOUT)
+                .build())
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDescription()).isEqualTo(MOCK_SECURITY_CONFIG_DESCRIPTION);
+        assertThat(response.getResourceModel().getSamlOptions().getMetadata()).isEqualTo(metadata);
+
+        verify(openSearchServerlessClient).getSecurityConfig(any(GetSecurityConfigRequest.class));
+        verify(openSearchServerlessClient, never()).updateSecurityConfig(any(UpdateSecurityConfigRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenValidationIssue_ThrowsException() {
+        final GetSecurityConfigResponse getSecurityConfigResponse =
+            GetSecurityConfigResponse.builder().securityConfigDetail(
+                    SecurityConfigDetail.builder()
+                        .id(MOCK_SECURITY_CONFIG_ID)
+                        .configVersion(MOCK_SECURITY_CONFIG_VERSION)
+                        .description(MOCK_SECURITY_CONFIG_PREVIOUS_DESCRIPTION)
                         .samlOptions(MOCK_SDK_SAML_OPTIONS)
                         .build())
                 .build();
@@ -178,7 +220,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                     SecurityConfigDetail.builder()
                         .id(MOCK_SECURITY_CONFIG_ID)
                         .configVersion(MOCK_SECURITY_CONFIG_VERSION)
-                        .description(MOCK_SECURITY_CONFIG_DESCRIPTION)
+                        .description(MOCK_SECURITY_CONFIG_PREVIOUS_DESCRIPTION)
                         .samlOptions(MOCK_SDK_SAML_OPTIONS)
                         .build())
                 .build();
@@ -209,7 +251,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                     SecurityConfigDetail.builder()
                         .id(MOCK_SECURITY_CONFIG_ID)
                         .configVersion(MOCK_SECURITY_CONFIG_VERSION)
-                        .description(MOCK_SECURITY_CONFIG_DESCRIPTION)
+                        .description(MOCK_SECURITY_CONFIG_PREVIOUS_DESCRIPTION)
                         .samlOptions(MOCK_SDK_SAML_OPTIONS)
                         .build())
                 .build();
@@ -240,7 +282,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 SecurityConfigDetail.builder()
                                         .id(MOCK_SECURITY_CONFIG_ID)
                                         .configVersion(MOCK_SECURITY_CONFIG_VERSION)
-                                        .description(MOCK_SECURITY_CONFIG_DESCRIPTION)
+                                        .description(MOCK_SECURITY_CONFIG_PREVIOUS_DESCRIPTION)
                                         .samlOptions(MOCK_SDK_SAML_OPTIONS)
                                         .build())
                         .build();
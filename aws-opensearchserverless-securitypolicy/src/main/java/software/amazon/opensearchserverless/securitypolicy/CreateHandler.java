@@ -7,6 +7,7 @@ import software.amazon.awssdk.services.opensearchserverless.model.CreateSecurity
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -18,21 +19,15 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import com.amazonaws.util.StringUtils;
-
 
 public class CreateHandler extends BaseHandlerStd {
 
-    private final ReadHandler readHandler;
-
     public CreateHandler() {
         super();
-        readHandler = new ReadHandler(getOpenSearchServerlessClient());
     }
 
     public CreateHandler(OpenSearchServerlessClient openSearchServerlessClient) {
         super(openSearchServerlessClient);
-        readHandler = new ReadHandler(getOpenSearchServerlessClient());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -43,15 +38,15 @@ public class CreateHandler extends BaseHandlerStd {
         final Logger logger) {
 
         ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Name cannot be empty");
         }
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Type cannot be empty");
         }
-        if (StringUtils.isNullOrEmpty(model.getPolicy())) {
+        if (StringUtils.isEmpty(model.getPolicy())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Policy cannot be empty");
         }
@@ -62,16 +57,16 @@ public class CreateHandler extends BaseHandlerStd {
                         progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToCreateRequest)
                     .makeServiceCall((awsRequest, cbClient) ->
-                        createSecurityPolicy(awsRequest, cbClient, logger))
-                    .progress()
-            )
-            .then(progress ->
-                readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                        createSecurityPolicy(awsRequest, cbClient, request, logger))
+                    // the create response carries the created policy, no need to read it back
+                    .done(awsResponse -> ProgressEvent.defaultSuccessHandler(
+                        Translator.translateFromCreateResponse(awsResponse))));
     }
 
     private CreateSecurityPolicyResponse createSecurityPolicy(
         final CreateSecurityPolicyRequest createSecurityPolicyRequest,
         final ProxyClient<OpenSearchServerlessClient> proxyClient,
+        final ResourceHandlerRequest<ResourceModel> request,
         final Logger logger) {
 
         final CreateSecurityPolicyResponse createSecurityPolicyResponse;
@@ -93,6 +88,8 @@ public class CreateHandler extends BaseHandlerStd {
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("CreateSecurityPolicy", e);
         }
+        SECURITY_POLICY_VERSIONS.put(request, Translator.getResourceIdentifier(request.getDesiredResourceState()),
+            createSecurityPolicyResponse.securityPolicyDetail());
         logger.log(String.format("%s successfully created. response: %s", ResourceModel.TYPE_NAME,
             createSecurityPolicyResponse));
         return createSecurityPolicyResponse;
@@ -6,6 +6,7 @@ import software.amazon.awssdk.services.opensearchserverless.model.DeleteSecurity
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -16,8 +17,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import com.amazonaws.util.StringUtils;
-
 public class DeleteHandler extends BaseHandlerStd {
 
     public DeleteHandler() {
@@ -36,11 +35,11 @@ public class DeleteHandler extends BaseHandlerStd {
         final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Name cannot be empty");
         }
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Type cannot be empty");
         }
@@ -51,7 +50,7 @@ public class DeleteHandler extends BaseHandlerStd {
                         proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToDeleteRequest)
                     .makeServiceCall((awsRequest, cbClient) ->
-                        deleteSecurityPolicy(awsRequest, cbClient, logger))
+                        deleteSecurityPolicy(awsRequest, cbClient, request, logger))
                     .progress()
             )
             .then(progress -> ProgressEvent.defaultSuccessHandler(null));
@@ -59,7 +58,9 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private DeleteSecurityPolicyResponse deleteSecurityPolicy(
         final DeleteSecurityPolicyRequest deleteSecurityPolicyRequest,
-        final ProxyClient<OpenSearchServerlessClient> proxyClient, Logger logger) {
+        final ProxyClient<OpenSearchServerlessClient> proxyClient,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final Logger logger) {
 
         DeleteSecurityPolicyResponse deleteSecurityPolicyResponse;
         try {
@@ -73,6 +74,8 @@ public class DeleteHandler extends BaseHandlerStd {
             throw new CfnInvalidRequestException(deleteSecurityPolicyRequest.toString() + ", " + e.getMessage(), e);
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("DeleteSecurityPolicy", e);
+        } finally {
+            SECURITY_POLICY_VERSIONS.remove(request, Translator.getResourceIdentifier(request.getDesiredResourceState()));
         }
         logger.log(String.format("%s successfully deleted. response: %s", ResourceModel.TYPE_NAME,
             deleteSecurityPolicyResponse));
@@ -1,8 +1,13 @@
 package software.amazon.opensearchserverless.securitypolicy;
 
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListSecurityPoliciesRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListSecurityPoliciesResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.opensearchserverless.model.SecurityPolicyType;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -11,9 +16,26 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+/**
+ * Lists the security policies of a type, or of every type with {@link MultiTypeListing} when the request names none.
+ * The page is returned with the full models read by {@link ListHydrator}, so that the resources listed need not be read one by one.
+ * <p>
+ * The types of a list request that names none are listed at once on the async client, without a thread per type.
+ */
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Types listed when the request names none.
+     */
+    static final List<String> TYPES = SecurityPolicyType.knownValues().stream()
+        .map(SecurityPolicyType::toString)
+        .sorted()
+        .collect(Collectors.toList());
+
     public ListHandler() {
         super();
     }
@@ -22,6 +44,10 @@ public class ListHandler extends BaseHandlerStd {
         super(openSearchServerlessClient);
     }
 
+    ListHandler(OpenSearchServerlessClient openSearchServerlessClient, OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient) {
+        super(openSearchServerlessClient, openSearchServerlessAsyncClient);
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -30,18 +56,57 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<OpenSearchServerlessClient> proxyClient,
         final Logger logger) {
 
-        ResourceModel model = request.getDesiredResourceState();
-        final ListSecurityPoliciesRequest listSecurityPoliciesRequest =
-            Translator.translateToListRequest(model, request.getNextToken());
-        final ListSecurityPoliciesResponse listSecurityPoliciesResponse = proxy.injectCredentialsAndInvokeV2(
-            listSecurityPoliciesRequest, proxyClient.client()::listSecurityPolicies);
-        String nextToken = listSecurityPoliciesResponse.nextToken();
-        final List<ResourceModel> models = Translator.translateFromListRequest(listSecurityPoliciesResponse);
+        final ResourceModel model = request.getDesiredResourceState();
+        final Optional<ProxyClient<OpenSearchServerlessAsyncClient>> asyncProxyClient = newAsyncProxyClient(proxy);
+        final MultiTypeListing.Page page;
+        if (model != null && !StringUtils.isEmpty(model.getType())) {
+            page = listSecurityPolicies(proxy, proxyClient, model, request.getNextToken());
+        } else if (asyncProxyClient.isPresent()) {
+            page = MultiTypeListing.listAsync(request.getNextToken(), TYPES, (type, cursor) ->
+                listSecurityPoliciesAsync(asyncProxyClient.get(), ResourceModel.builder().type(type).build(), cursor));
+        } else {
+            page = MultiTypeListing.list(request.getNextToken(), TYPES, (type, cursor) ->
+                listSecurityPolicies(proxy, proxyClient, ResourceModel.builder().type(type).build(), cursor));
+        }
+        final List<ResourceModel> models = ListHydrator.INSTANCE.hydrate(page.getModels(),
+            listedModel -> getSecurityPolicy(listedModel, proxyClient), logger);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
             .resourceModels(models)
-            .nextToken(nextToken)
+            .nextToken(page.getNextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
+
+    private MultiTypeListing.Page listSecurityPolicies(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<OpenSearchServerlessClient> proxyClient,
+        final ResourceModel model,
+        final String nextToken) {
+        final ListSecurityPoliciesRequest listSecurityPoliciesRequest = Translator.translateToListRequest(model, nextToken);
+        final ListSecurityPoliciesResponse listSecurityPoliciesResponse = proxy.injectCredentialsAndInvokeV2(listSecurityPoliciesRequest, proxyClient.client()::listSecurityPolicies);
+        return new MultiTypeListing.Page(Translator.translateFromListRequest(listSecurityPoliciesResponse),
+            listSecurityPoliciesResponse.nextToken());
+    }
+
+    private static CompletableFuture<MultiTypeListing.Page> listSecurityPoliciesAsync(
+        final ProxyClient<OpenSearchServerlessAsyncClient> asyncProxyClient,
+        final ResourceModel model,
+        final String nextToken) {
+        return asyncProxyClient.injectCredentialsAndInvokeV2Async(Translator.translateToListRequest(model, nextToken),
+                asyncProxyClient.client()::listSecurityPolicies)
+            .thenApply(response -> new MultiTypeListing.Page(Translator.translateFromListRequest(response), response.nextToken()));
+    }
+
+    private Optional<ResourceModel> getSecurityPolicy(
+        final ResourceModel listedModel,
+        final ProxyClient<OpenSearchServerlessClient> proxyClient) {
+        final GetSecurityPolicyRequest getSecurityPolicyRequest = Translator.translateToReadRequest(listedModel);
+        try {
+            return Optional.of(Translator.translateFromReadResponse(
+                proxyClient.injectCredentialsAndInvokeV2(getSecurityPolicyRequest, proxyClient.client()::getSecurityPolicy)));
+        } catch (ResourceNotFoundException e) {
+            return Optional.empty();
+        }
+    }
 }
@@ -1,12 +1,12 @@
 package software.amazon.opensearchserverless.securitypolicy;
 
-import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -17,6 +17,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.opensearchserverless.securitypolicy.Translator.getResourceIdentifierForGetSecurityPolicyRequest;
+
 public class ReadHandler extends BaseHandlerStd {
 
     public ReadHandler() {
@@ -32,11 +34,11 @@ public class ReadHandler extends BaseHandlerStd {
         final Logger logger) {
 
         ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Name cannot be empty");
         }
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Type cannot be empty");
         }
@@ -44,7 +46,7 @@ public class ReadHandler extends BaseHandlerStd {
         return proxy.initiate("AWS-OpenSearchServerless-SecurityPolicy::Read", proxyClient,
                 request.getDesiredResourceState(), callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall((awsRequest, cbClient) -> getSecurityPolicy(awsRequest, cbClient, logger))
+            .makeServiceCall((awsRequest, cbClient) -> getSecurityPolicy(awsRequest, cbClient, request, logger))
             .done(awsResponse -> ProgressEvent.defaultSuccessHandler(
                 Translator.translateFromReadResponse(awsResponse)));
     }
@@ -52,13 +54,13 @@ public class ReadHandler extends BaseHandlerStd {
     private GetSecurityPolicyResponse getSecurityPolicy(
         final GetSecurityPolicyRequest getSecurityPolicyRequest,
         final ProxyClient<OpenSearchServerlessClient> proxyClient,
+        final ResourceHandlerRequest<ResourceModel> request,
         final Logger logger) {
 
         GetSecurityPolicyResponse getSecurityPolicyResponse;
         try {
             logger.log(String.format("Sending get security policy request: %s",getSecurityPolicyRequest));
-            getSecurityPolicyResponse = proxyClient.injectCredentialsAndInvokeV2(getSecurityPolicyRequest,
-                proxyClient.client()::getSecurityPolicy);
+            getSecurityPolicyResponse = proxyClient.injectCredentialsAndInvokeV2(getSecurityPolicyRequest, proxyClient.client()::getSecurityPolicy);
         } catch (ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, String.format("Name:%s, Type:%s",
                     getSecurityPolicyRequest.name(), getSecurityPolicyRequest.typeAsString()), e);
@@ -67,6 +69,8 @@ public class ReadHandler extends BaseHandlerStd {
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("GetSecurityPolicy", e);
         }
+        SECURITY_POLICY_VERSIONS.put(request, getResourceIdentifierForGetSecurityPolicyRequest(getSecurityPolicyRequest),
+            getSecurityPolicyResponse.securityPolicyDetail());
         logger.log(String.format("%s successfully read. response: %s", ResourceModel.TYPE_NAME,
             getSecurityPolicyResponse));
         return getSecurityPolicyResponse;
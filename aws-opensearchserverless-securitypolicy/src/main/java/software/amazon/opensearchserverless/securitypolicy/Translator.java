@@ -1,6 +1,8 @@
 package software.amazon.opensearchserverless.securitypolicy;
 
+import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.opensearchserverless.model.CreateSecurityPolicyRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.CreateSecurityPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.DeleteSecurityPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyResponse;
@@ -10,14 +12,19 @@ import software.amazon.awssdk.services.opensearchserverless.model.SecurityPolicy
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateSecurityPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateSecurityPolicyResponse;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class Translator {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     /**
      * Request to create a security policy
      *
@@ -53,13 +60,7 @@ public class Translator {
      * @return model resource model
      */
     static ResourceModel translateFromReadResponse(final GetSecurityPolicyResponse getSecurityPolicyResponse) {
-        SecurityPolicyDetail securityPolicyDetail = getSecurityPolicyResponse.securityPolicyDetail();
-        return ResourceModel.builder()
-            .name(securityPolicyDetail.name())
-            .type(securityPolicyDetail.typeAsString())
-            .description(securityPolicyDetail.description())
-            .policy(securityPolicyDetail.policy().toString())
-            .build();
+        return translateSecurityPolicyDetailFromSDK(getSecurityPolicyResponse.securityPolicyDetail());
     }
 
     /**
@@ -124,10 +125,46 @@ public class Translator {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Whether the desired state differs from the current security policy. Properties left unset in the model are not
+     * updated, and policies are compared as parsed JSON so that formatting and key order are not seen as changes.
+     *
+     * @param model resource model
+     * @param currentSecurityPolicyDetail the current security policy
+     * @return true if an update call is needed
+     */
+    static boolean isUpdateRequired(final ResourceModel model, final SecurityPolicyDetail currentSecurityPolicyDetail) {
+        final String currentDescription = Optional.ofNullable(currentSecurityPolicyDetail.description()).orElse("");
+        return (model.getDescription() != null && !model.getDescription().equals(currentDescription))
+            || (model.getPolicy() != null && !isSamePolicy(model.getPolicy(), currentSecurityPolicyDetail.policy()));
+    }
+
+    private static boolean isSamePolicy(final String policy, final Document currentPolicy) {
+        if (currentPolicy == null) {
+            return false;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(policy).equals(OBJECT_MAPPER.readTree(currentPolicy.toString()));
+        } catch (IOException e) {
+            // not valid JSON, let the service validate it
+            return false;
+        }
+    }
+
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection).stream().flatMap(Collection::stream);
     }
 
+    /**
+     * Translates resource object from sdk into a resource model
+     *
+     * @param createSecurityPolicyResponse the aws service create resource response
+     * @return model resource model
+     */
+    static ResourceModel translateFromCreateResponse(final CreateSecurityPolicyResponse createSecurityPolicyResponse) {
+        return translateSecurityPolicyDetailFromSDK(createSecurityPolicyResponse.securityPolicyDetail());
+    }
+
     /**
      * Translates resource object from sdk into a resource model
      *
@@ -136,13 +173,7 @@ public class Translator {
      */
     public static ResourceModel translateFromUpdateResponse(
         UpdateSecurityPolicyResponse updateSecurityPolicyResponse) {
-        SecurityPolicyDetail securityPolicyDetail = updateSecurityPolicyResponse.securityPolicyDetail();
-        return ResourceModel.builder()
-            .name(securityPolicyDetail.name())
-            .type(securityPolicyDetail.typeAsString())
-            .description(securityPolicyDetail.description())
-            .policy(securityPolicyDetail.policy().toString())
-            .build();
+        return translateSecurityPolicyDetailFromSDK(updateSecurityPolicyResponse.securityPolicyDetail());
     }
 
     static String getResourceIdentifierForUpdateSecurityPolicyRequest(
@@ -151,8 +182,21 @@ public class Translator {
             updateSecurityPolicyRequest.typeAsString(), updateSecurityPolicyRequest.name());
     }
 
+    static String getResourceIdentifier(final ResourceModel model) {
+        return String.format("%s|%s", model.getType(), model.getName());
+    }
+
     static String getResourceIdentifierForGetSecurityPolicyRequest(final GetSecurityPolicyRequest getSecurityPolicyRequest) {
         return String.format("%s|%s",
             getSecurityPolicyRequest.typeAsString(), getSecurityPolicyRequest.name());
     }
+
+    static ResourceModel translateSecurityPolicyDetailFromSDK(final SecurityPolicyDetail securityPolicyDetail) {
+        return ResourceModel.builder()
+            .name(securityPolicyDetail.name())
+            .type(securityPolicyDetail.typeAsString())
+            .description(securityPolicyDetail.description())
+            .policy(securityPolicyDetail.policy().toString())
+            .build();
+    }
 }
@@ -1,16 +1,17 @@
 package software.amazon.opensearchserverless.securitypolicy;
 
-import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.ConflictException;
 import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.opensearchserverless.model.SecurityPolicyDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateSecurityPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.UpdateSecurityPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
@@ -44,25 +45,37 @@ public class UpdateHandler extends BaseHandlerStd {
         final Logger logger) {
 
         ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Name cannot be empty");
         }
-        if (StringUtils.isNullOrEmpty(model.getType())) {
+        if (StringUtils.isEmpty(model.getType())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Type cannot be empty");
         }
-        if(StringUtils.isNullOrEmpty(model.getDescription()) && model.getPolicy() == null) {
+        if(StringUtils.isEmpty(model.getDescription()) && model.getPolicy() == null) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "One of description or policy is required");
         }
 
+        // update optimistically with the version the container last read or wrote, when that version already needs an
+        // update, instead of reading the policy first; the service still fails an update of a missing policy
+        final String resourceId = Translator.getResourceIdentifier(model);
+        final SecurityPolicyDetail knownSecurityPolicyDetail = SECURITY_POLICY_VERSIONS.get(request, resourceId);
+        final boolean optimistic = knownSecurityPolicyDetail != null && knownSecurityPolicyDetail.policyVersion() != null
+            && Translator.isUpdateRequired(model, knownSecurityPolicyDetail);
+        if (optimistic) {
+            logger.log(String.format("%s has a known policy version %s, skipping the read before update", ResourceModel.TYPE_NAME,
+                knownSecurityPolicyDetail.policyVersion()));
+            callbackContext.setCurrentSecurityPolicyDetail(knownSecurityPolicyDetail);
+        }
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             // STEP 1 [check if resource already exists]
             // for more information ->
             // https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
             // if target API does not support 'ResourceNotFoundException' then following check is required
-            .then(progress ->
+            .then(progress -> optimistic ? progress :
                 // STEP 1.0 [initialize a proxy context]
                 // If your service API does not return ResourceNotFoundException
                 // on update requests against some identifier (e.g; resource Name)
@@ -82,12 +95,22 @@ public class UpdateHandler extends BaseHandlerStd {
                         // If describe request does not return ResourceNotFoundException,
                         // you must throw ResourceNotFoundException based on
                         // awsResponse values
-                        GetSecurityPolicyResponse awsResponse = getSecurityPolicy(awsRequest, client, logger);
+                        GetSecurityPolicyResponse awsResponse = getSecurityPolicy(awsRequest, client, request, logger);
                         callbackContext.setCurrentSecurityPolicyDetail(awsResponse.securityPolicyDetail());
                         return awsResponse;
                     })
                     .progress()
             )
+            .then(progress -> {
+                // skip the update call, and the version bump that comes with it, when the policy as just read from the
+                // service already is in the desired state; never on the known version, which is only a cached detail
+                if (optimistic || Translator.isUpdateRequired(progress.getResourceModel(), callbackContext.getCurrentSecurityPolicyDetail())) {
+                    return progress;
+                }
+                logger.log(String.format("%s is already in the desired state, skipping update", ResourceModel.TYPE_NAME));
+                return ProgressEvent.defaultSuccessHandler(
+                    Translator.translateSecurityPolicyDetailFromSDK(callbackContext.getCurrentSecurityPolicyDetail()));
+            })
             .then(progress ->
                 // STEP 2.0 [initialize a proxy context]
                 // Implement client invocation of the update request through the proxyClient,
@@ -97,14 +120,52 @@ public class UpdateHandler extends BaseHandlerStd {
                         proxyClient, request.getDesiredResourceState(), callbackContext)
                     .translateToServiceRequest(resourceModel -> Translator.translateToUpdateRequest(resourceModel,
                         callbackContext.getCurrentSecurityPolicyDetail()))
-                    .makeServiceCall((awsRequest, client) -> updateSecurityPolicy(awsRequest, client, logger))
+                    .makeServiceCall((awsRequest, client) -> optimistic
+                        ? updateSecurityPolicyWithKnownVersion(awsRequest, client, request, callbackContext, logger)
+                        : updateSecurityPolicy(awsRequest, client, request, logger))
                     .done(awsResponse -> ProgressEvent.defaultSuccessHandler(
                         Translator.translateFromUpdateResponse(awsResponse))));
     }
 
+    /**
+     * Update with the policy version the container last read or wrote. A stale version fails with a conflict, the
+     * policy is then read and, if it still needs the update, updated once more with its current version.
+     *
+     * @param updateSecurityPolicyRequest the aws service request to update the security policy, with the known version
+     * @param proxyClient                 the aws service client to make the call
+     * @param request                     the handler request
+     * @param callbackContext             the callback context, holding the current security policy detail
+     * @param logger                      the logger
+     * @return the aws service response
+     */
+    private UpdateSecurityPolicyResponse updateSecurityPolicyWithKnownVersion(
+        final UpdateSecurityPolicyRequest updateSecurityPolicyRequest,
+        final ProxyClient<OpenSearchServerlessClient> proxyClient,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+        try {
+            return updateSecurityPolicy(updateSecurityPolicyRequest, proxyClient, request, logger);
+        } catch (CfnResourceConflictException e) {
+            logger.log(String.format("%s policy version %s is stale, reading the security policy",
+                ResourceModel.TYPE_NAME, updateSecurityPolicyRequest.policyVersion()));
+        }
+        final SecurityPolicyDetail currentSecurityPolicyDetail = getSecurityPolicy(
+            Translator.translateToReadRequest(request.getDesiredResourceState()), proxyClient, request, logger)
+            .securityPolicyDetail();
+        callbackContext.setCurrentSecurityPolicyDetail(currentSecurityPolicyDetail);
+        if (!Translator.isUpdateRequired(request.getDesiredResourceState(), currentSecurityPolicyDetail)) {
+            logger.log(String.format("%s is already in the desired state, skipping update", ResourceModel.TYPE_NAME));
+            return UpdateSecurityPolicyResponse.builder().securityPolicyDetail(currentSecurityPolicyDetail).build();
+        }
+        return updateSecurityPolicy(Translator.translateToUpdateRequest(request.getDesiredResourceState(),
+            currentSecurityPolicyDetail), proxyClient, request, logger);
+    }
+
     private UpdateSecurityPolicyResponse updateSecurityPolicy(
         final UpdateSecurityPolicyRequest updateSecurityPolicyRequest,
         final ProxyClient<OpenSearchServerlessClient> proxyClient,
+        final ResourceHandlerRequest<ResourceModel> request,
         final Logger logger) {
 
         UpdateSecurityPolicyResponse updateSecurityPolicyResponse;
@@ -119,6 +180,7 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (ValidationException e) {
             throw new CfnInvalidRequestException(updateSecurityPolicyRequest.toString() + ", " + e.getMessage(), e);
         } catch (ConflictException e) {
+            SECURITY_POLICY_VERSIONS.remove(request, getResourceIdentifierForUpdateSecurityPolicyRequest(updateSecurityPolicyRequest));
             throw new CfnResourceConflictException(ResourceModel.TYPE_NAME,
                 getResourceIdentifierForUpdateSecurityPolicyRequest(updateSecurityPolicyRequest),
                 e.getMessage(),
@@ -128,6 +190,8 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("UpdateSecurityPolicy", e);
         }
+        SECURITY_POLICY_VERSIONS.put(request, getResourceIdentifierForUpdateSecurityPolicyRequest(updateSecurityPolicyRequest),
+            updateSecurityPolicyResponse.securityPolicyDetail());
         logger.log(String.format("%s successfully updated. response: %s", ResourceModel.TYPE_NAME,
             updateSecurityPolicyResponse));
         return updateSecurityPolicyResponse;
@@ -136,11 +200,13 @@ public class UpdateHandler extends BaseHandlerStd {
     private GetSecurityPolicyResponse getSecurityPolicy(
         final GetSecurityPolicyRequest getSecurityPolicyRequest,
         final ProxyClient<OpenSearchServerlessClient> proxyClient,
+        final ResourceHandlerRequest<ResourceModel> request,
         final Logger logger) {
 
         GetSecurityPolicyResponse getSecurityPolicyResponse;
         try {
             logger.log(String.format("Sending get security policy request: %s",getSecurityPolicyRequest));
+            // read through to the service, a cached detail may be stale and must not decide whether to update
             getSecurityPolicyResponse = proxyClient.injectCredentialsAndInvokeV2(getSecurityPolicyRequest,
                 proxyClient.client()::getSecurityPolicy);
         } catch (ResourceNotFoundException e) {
@@ -152,6 +218,8 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (InternalServerException e) {
             throw new CfnServiceInternalErrorException("GetSecurityPolicy", e);
         }
+        SECURITY_POLICY_VERSIONS.put(request, getResourceIdentifierForGetSecurityPolicyRequest(getSecurityPolicyRequest),
+            getSecurityPolicyResponse.securityPolicyDetail());
         logger.log(String.format("%s successfully read. response: %s", ResourceModel.TYPE_NAME,
             getSecurityPolicyResponse));
         return getSecurityPolicyResponse;
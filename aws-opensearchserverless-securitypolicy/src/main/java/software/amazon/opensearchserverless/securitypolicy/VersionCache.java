@@ -0,0 +1,103 @@
+package software.amazon.opensearchserverless.securitypolicy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import lombok.NonNull;
+
+/**
+ * Last known detail of each policy, with its policy version, as last read or written by the container, held in static
+ * state so that it lives as long as the warm container.
+ * <p>
+ * The update handler sends its update with the remembered version instead of reading the policy first, and reads it
+ * only when the service rejects the version as stale. Entries do not expire and are not scoped by caller identity: a
+ * remembered detail only saves the read before an update, the service still checks the version and the credentials of
+ * the update, and the detail is never returned to a caller. Entries are scoped by account, region and resource
+ * identifier, and the least recently used entry is evicted first.
+ *
+ * @param <T> the type of the remembered policy detail
+ */
+final class VersionCache<T> {
+
+    static final int MAX_ENTRIES = 1000;
+
+    private final int maxEntries;
+    private final Map<String, T> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    VersionCache(final int maxEntries) {
+        this.maxEntries = maxEntries;
+        // access ordered, so that the least recently used entry is evicted first
+        this.entries = new LinkedHashMap<String, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, T> eldest) {
+                return size() > VersionCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param request    the handler request, for the account and region
+     * @param resourceId the identifier of the policy
+     * @return the last known detail of the policy, null if the container has not read or written it
+     */
+    T get(final @NonNull ResourceHandlerRequest<?> request, final @NonNull String resourceId) {
+        final T detail;
+        synchronized (entries) {
+            detail = entries.get(key(request, resourceId));
+        }
+        (detail == null ? misses : hits).incrementAndGet();
+        return detail;
+    }
+
+    /**
+     * @param request    the handler request, for the account and region
+     * @param resourceId the identifier of the policy
+     * @param detail     the detail of the policy, as read or written by the service, null if the service returned none
+     */
+    void put(final @NonNull ResourceHandlerRequest<?> request, final @NonNull String resourceId, final T detail) {
+        synchronized (entries) {
+            if (detail == null) {
+                entries.remove(key(request, resourceId));
+            } else {
+                entries.put(key(request, resourceId), detail);
+            }
+        }
+    }
+
+    /**
+     * Forgets the detail of the policy, after it was deleted or rejected as stale.
+     *
+     * @param request    the handler request, for the account and region
+     * @param resourceId the identifier of the policy
+     */
+    void remove(final @NonNull ResourceHandlerRequest<?> request, final @NonNull String resourceId) {
+        synchronized (entries) {
+            entries.remove(key(request, resourceId));
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    private static String key(final ResourceHandlerRequest<?> request, final String resourceId) {
+        return request.getAwsAccountId() + "|" + request.getRegion() + "|" + resourceId;
+    }
+}
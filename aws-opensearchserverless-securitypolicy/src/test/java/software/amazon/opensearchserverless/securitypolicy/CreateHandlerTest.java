@@ -6,7 +6,6 @@ import software.amazon.awssdk.services.opensearchserverless.model.ConflictExcept
 import software.amazon.awssdk.services.opensearchserverless.model.CreateSecurityPolicyRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.CreateSecurityPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyRequest;
-import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.SecurityPolicyDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.ServiceQuotaExceededException;
@@ -34,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -95,21 +95,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().createSecurityPolicy(any(CreateSecurityPolicyRequest.class)))
             .thenReturn(createSecurityPolicyResponse);
 
-        final GetSecurityPolicyResponse getSecurityPolicyResponse =
-            GetSecurityPolicyResponse.builder()
-                .securityPolicyDetail(
-                    SecurityPolicyDetail.builder()
-                        .name(MOCK_POLICY_NAME)
-                        .type(MOCK_POLICY_TYPE)
-                        .policyVersion(MOCK_POLICY_VERSION)
-                        .description(MOCK_POLICY_DESCRIPTION)
-                        .policy(MOCK_POLICY_DOCUMENT)
-                        .build()
-                ).build();
-
-        when(proxyClient.client().getSecurityPolicy(any(GetSecurityPolicyRequest.class)))
-            .thenReturn(getSecurityPolicyResponse);
-
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -122,6 +107,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createSecurityPolicy(any(CreateSecurityPolicyRequest.class));
+        verify(proxyClient.client(), never()).getSecurityPolicy(any(GetSecurityPolicyRequest.class));
     }
 
     @Test
@@ -1,8 +1,14 @@
 package software.amazon.opensearchserverless.securitypolicy;
 
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessAsyncClient;
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.GetSecurityPolicyResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.ListSecurityPoliciesRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListSecurityPoliciesResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.opensearchserverless.model.SecurityPolicyDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.SecurityPolicySummary;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -13,14 +19,19 @@ import com.google.common.collect.ImmutableList;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -45,6 +56,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_SimpleSuccess() {
+        stubGetSecurityPolicy();
         Collection<SecurityPolicySummary> securityPolicySummaries = ImmutableList.of(
             SecurityPolicySummary.builder().name(MOCK_POLICY_NAME_1).type(MOCK_POLICY_TYPE_1).build(),
             SecurityPolicySummary.builder().name(MOCK_POLICY_NAME_2).type(MOCK_POLICY_TYPE_1).build());
@@ -77,4 +89,120 @@ public class ListHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client()).listSecurityPolicies(any(ListSecurityPoliciesRequest.class));
     }
+
+    @Test
+    public void handleRequest_FullModels_ReadsListedPolicies() {
+        handler = new ListHandler(openSearchServerlessClient);
+        Collection<SecurityPolicySummary> securityPolicySummaries = ImmutableList.of(
+            SecurityPolicySummary.builder().name(MOCK_POLICY_NAME_1).type(MOCK_POLICY_TYPE_1).build(),
+            SecurityPolicySummary.builder().name(MOCK_POLICY_NAME_2).type(MOCK_POLICY_TYPE_1).build(),
+            SecurityPolicySummary.builder().name("policy-name-3").type(MOCK_POLICY_TYPE_1).build());
+        when(proxyClient.client().listSecurityPolicies(any(ListSecurityPoliciesRequest.class)))
+            .thenReturn(ListSecurityPoliciesResponse.builder().securityPolicySummaries(securityPolicySummaries).build());
+        when(proxyClient.client().getSecurityPolicy(any(GetSecurityPolicyRequest.class))).thenAnswer(invocation -> {
+            final GetSecurityPolicyRequest getSecurityPolicyRequest = invocation.getArgument(0, GetSecurityPolicyRequest.class);
+            if (getSecurityPolicyRequest.name().equals(MOCK_POLICY_NAME_2)) {
+                throw ResourceNotFoundException.builder().build();
+            }
+            return GetSecurityPolicyResponse.builder()
+                .securityPolicyDetail(SecurityPolicyDetail.builder()
+                    .type(getSecurityPolicyRequest.type())
+                    .name(getSecurityPolicyRequest.name())
+                    .policy(Document.fromString("policy"))
+                    .build())
+                .build();
+        });
+
+        final ResourceModel model = ResourceModel.builder()
+            .type(MOCK_POLICY_TYPE_1)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getName)
+            .containsExactly(MOCK_POLICY_NAME_1, "policy-name-3");
+        assertThat(response.getResourceModels()).allSatisfy(resourceModel -> assertThat(resourceModel.getPolicy()).isNotNull());
+
+        verify(proxyClient.client(), times(3)).getSecurityPolicy(any(GetSecurityPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoType_ListsEveryType() {
+        stubGetSecurityPolicy();
+        when(proxyClient.client().listSecurityPolicies(any(ListSecurityPoliciesRequest.class))).thenAnswer(invocation -> {
+            final ListSecurityPoliciesRequest listSecurityPoliciesRequest = invocation.getArgument(0, ListSecurityPoliciesRequest.class);
+            return ListSecurityPoliciesResponse.builder()
+                .securityPolicySummaries(SecurityPolicySummary.builder()
+                    .name(listSecurityPoliciesRequest.typeAsString() + "-policy")
+                    .type(listSecurityPoliciesRequest.type())
+                    .build())
+                .nextToken(listSecurityPoliciesRequest.typeAsString().equals(MOCK_POLICY_TYPE_1) ? "encryption-token" : null)
+                .build();
+        });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getName)
+            .containsExactly("encryption-policy", "network-policy");
+        assertThat(response.getNextToken()).startsWith(MultiTypeListing.TOKEN_PREFIX);
+
+        final ProgressEvent<ResourceModel, CallbackContext> nextResponse = handler.handleRequest(proxy,
+            request.toBuilder().nextToken(response.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(nextResponse.getResourceModels()).extracting(ResourceModel::getName)
+            .containsExactly("encryption-policy");
+
+        final ArgumentCaptor<ListSecurityPoliciesRequest> captor = ArgumentCaptor.forClass(ListSecurityPoliciesRequest.class);
+        verify(proxyClient.client(), times(3)).listSecurityPolicies(captor.capture());
+        assertThat(captor.getAllValues().get(2).nextToken()).isEqualTo("encryption-token");
+    }
+
+    @Test
+    public void handleRequest_AsyncClient_ListsEveryTypeAtOnce() {
+        stubGetSecurityPolicy();
+        final OpenSearchServerlessAsyncClient openSearchServerlessAsyncClient = mock(OpenSearchServerlessAsyncClient.class);
+        handler = new ListHandler(openSearchServerlessClient, openSearchServerlessAsyncClient);
+        when(openSearchServerlessAsyncClient.listSecurityPolicies(any(ListSecurityPoliciesRequest.class))).thenAnswer(invocation -> {
+            final String type = invocation.getArgument(0, ListSecurityPoliciesRequest.class).typeAsString();
+            return CompletableFuture.completedFuture(ListSecurityPoliciesResponse.builder()
+                .securityPolicySummaries(SecurityPolicySummary.builder().name(type + "-1").type(type).build())
+                .build());
+        });
+
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build()).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getType).containsExactlyElementsOf(ListHandler.TYPES);
+        assertThat(response.getNextToken()).isNull();
+        verify(openSearchServerlessAsyncClient, times(ListHandler.TYPES.size())).listSecurityPolicies(any(ListSecurityPoliciesRequest.class));
+        verify(openSearchServerlessClient, never()).listSecurityPolicies(any(ListSecurityPoliciesRequest.class));
+    }
+
+    private void stubGetSecurityPolicy() {
+        when(openSearchServerlessClient.getSecurityPolicy(any(GetSecurityPolicyRequest.class))).thenAnswer(invocation -> {
+            final GetSecurityPolicyRequest getSecurityPolicyRequest = invocation.getArgument(0, GetSecurityPolicyRequest.class);
+            return GetSecurityPolicyResponse.builder()
+                .securityPolicyDetail(SecurityPolicyDetail.builder()
+                    .type(getSecurityPolicyRequest.type())
+                    .name(getSecurityPolicyRequest.name())
+                    .policy(Document.fromString("policy"))
+                    .build())
+                .build();
+        });
+    }
 }
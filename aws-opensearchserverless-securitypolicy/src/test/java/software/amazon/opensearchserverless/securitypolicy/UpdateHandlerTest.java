@@ -22,17 +22,21 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.Collections;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,6 +46,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     private static final String MOCK_POLICY_NAME = "policy-name";
     private static final String MOCK_POLICY_TYPE = "encryption";
     private static final String MOCK_POLICY_DESCRIPTION = "Policy description";
+    private static final String MOCK_POLICY_PREVIOUS_DESCRIPTION = "Previous policy description";
     private static final Document MOCK_POLICY_DOCUMENT = Document.fromString("Policy Document");
     private static final String MOCK_POLICY_VERSION = "policyversion";
     private static final String MOCK_POLICY_VERSION_UPDATED = "policyversion Updated";
@@ -53,6 +58,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
+        BaseHandlerStd.SECURITY_POLICY_VERSIONS.clear();
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = MOCK_PROXY(proxy, openSearchServerlessClient);
         handler = new UpdateHandler(openSearchServerlessClient);
@@ -86,7 +92,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                     .name(MOCK_POLICY_NAME)
                     .type(MOCK_POLICY_TYPE)
                     .policyVersion(MOCK_POLICY_VERSION)
-                    .description(MOCK_POLICY_DESCRIPTION)
+                    .description(MOCK_POLICY_PREVIOUS_DESCRIPTION)
                     .policy(MOCK_POLICY_DOCUMENT)
                     .build()
             ).build();
@@ -119,6 +125,115 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(openSearchServerlessClient).updateSecurityPolicy(any(UpdateSecurityPolicyRequest.class));
     }
 
+    @Test
+    public void handleRequest_KnownVersion_SkipsRead() {
+        final ResourceModel model = ResourceModel.builder()
+            .name(MOCK_POLICY_NAME)
+            .type(MOCK_POLICY_TYPE)
+            .description(MOCK_POLICY_DESCRIPTION)
+            .policy(MOCK_POLICY_DOCUMENT.toString())
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+        BaseHandlerStd.SECURITY_POLICY_VERSIONS.put(request, Translator.getResourceIdentifier(model),
+            securityPolicyDetail(MOCK_POLICY_PREVIOUS_DESCRIPTION, MOCK_POLICY_VERSION));
+
+        when(openSearchServerlessClient.updateSecurityPolicy(any(UpdateSecurityPolicyRequest.class)))
+            .thenReturn(UpdateSecurityPolicyResponse.builder()
+                .securityPolicyDetail(securityPolicyDetail(MOCK_POLICY_DESCRIPTION, MOCK_POLICY_VERSION_UPDATED))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDescription()).isEqualTo(MOCK_POLICY_DESCRIPTION);
+        final ArgumentCaptor<UpdateSecurityPolicyRequest> updateSecurityPolicyRequestCaptor =
+            ArgumentCaptor.forClass(UpdateSecurityPolicyRequest.class);
+        verify(openSearchServerlessClient).updateSecurityPolicy(updateSecurityPolicyRequestCaptor.capture());
+        assertThat(updateSecurityPolicyRequestCaptor.getValue().policyVersion()).isEqualTo(MOCK_POLICY_VERSION);
+        verify(openSearchServerlessClient, never()).getSecurityPolicy(any(GetSecurityPolicyRequest.class));
+        assertThat(BaseHandlerStd.SECURITY_POLICY_VERSIONS.get(request, Translator.getResourceIdentifier(model)).policyVersion())
+            .isEqualTo(MOCK_POLICY_VERSION_UPDATED);
+    }
+
+    @Test
+    public void handleRequest_StaleKnownVersion_ReadsAndRetries() {
+        final ResourceModel model = ResourceModel.builder()
+            .name(MOCK_POLICY_NAME)
+            .type(MOCK_POLICY_TYPE)
+            .description(MOCK_POLICY_DESCRIPTION)
+            .policy(MOCK_POLICY_DOCUMENT.toString())
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+        BaseHandlerStd.SECURITY_POLICY_VERSIONS.put(request, Translator.getResourceIdentifier(model),
+            securityPolicyDetail(MOCK_POLICY_PREVIOUS_DESCRIPTION, "policyversion Stale"));
+
+        when(openSearchServerlessClient.updateSecurityPolicy(any(UpdateSecurityPolicyRequest.class)))
+            .thenThrow(ConflictException.builder().message("Policy version mismatch").build())
+            .thenReturn(UpdateSecurityPolicyResponse.builder()
+                .securityPolicyDetail(securityPolicyDetail(MOCK_POLICY_DESCRIPTION, MOCK_POLICY_VERSION_UPDATED))
+                .build());
+        when(openSearchServerlessClient.getSecurityPolicy(any(GetSecurityPolicyRequest.class)))
+            .thenReturn(GetSecurityPolicyResponse.builder()
+                .securityPolicyDetail(securityPolicyDetail(MOCK_POLICY_PREVIOUS_DESCRIPTION, MOCK_POLICY_VERSION))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<UpdateSecurityPolicyRequest> updateSecurityPolicyRequestCaptor =
+            ArgumentCaptor.forClass(UpdateSecurityPolicyRequest.class);
+        verify(openSearchServerlessClient, times(2)).updateSecurityPolicy(updateSecurityPolicyRequestCaptor.capture());
+        assertThat(updateSecurityPolicyRequestCaptor.getAllValues())
+            .extracting(UpdateSecurityPolicyRequest::policyVersion)
+            .containsExactly("policyversion Stale", MOCK_POLICY_VERSION);
+        verify(openSearchServerlessClient).getSecurityPolicy(any(GetSecurityPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoChange_SkipsUpdate() {
+        final Document currentPolicy = Document.fromList(Collections.singletonList(Document.mapBuilder()
+            .putList("Rules", rules -> rules.addMap(rule -> rule
+                .putString("ResourceType", "collection")
+                .putList("Resource", resources -> resources.addString("collection/logs"))))
+            .putString("Description", "policy")
+            .build()));
+        final GetSecurityPolicyResponse getResponse =
+            GetSecurityPolicyResponse.builder()
+                .securityPolicyDetail(
+                    SecurityPolicyDetail.builder()
+                        .name(MOCK_POLICY_NAME)
+                        .type(MOCK_POLICY_TYPE)
+                        .description(MOCK_POLICY_DESCRIPTION)
+                        .policy(currentPolicy)
+                        .policyVersion(MOCK_POLICY_VERSION)
+                        .build()
+                ).build();
+        when(openSearchServerlessClient.getSecurityPolicy(any(GetSecurityPolicyRequest.class))).thenReturn(getResponse);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(MOCK_POLICY_NAME)
+            .type(MOCK_POLICY_TYPE)
+            .description(MOCK_POLICY_DESCRIPTION)
+            .policy("[ {\"Description\" : \"policy\", \"Rules\" : [ {\"Resource\" : [\"collection/logs\"], \"ResourceType\" : \"collection\"} ]} ]")
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDescription()).isEqualTo(MOCK_POLICY_DESCRIPTION);
+        assertThat(response.getResourceModel().getPolicy()).isEqualTo(currentPolicy.toString());
+
+        verify(openSearchServerlessClient).getSecurityPolicy(any(GetSecurityPolicyRequest.class));
+        verify(openSearchServerlessClient, never()).updateSecurityPolicy(any(UpdateSecurityPolicyRequest.class));
+    }
+
     @Test
     public void handleRequest_ResourceNotFoundException_Fail() {
         when(openSearchServerlessClient.updateSecurityPolicy(any(UpdateSecurityPolicyRequest.class)))
@@ -130,7 +245,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .name(MOCK_POLICY_NAME)
                                 .type(MOCK_POLICY_TYPE)
                                 .policyVersion(MOCK_POLICY_VERSION)
-                                .description(MOCK_POLICY_DESCRIPTION)
+                                .description(MOCK_POLICY_PREVIOUS_DESCRIPTION)
                                 .policy(MOCK_POLICY_DOCUMENT)
                                 .build()
                 ).build();
@@ -166,7 +281,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .name(MOCK_POLICY_NAME)
                                 .type(MOCK_POLICY_TYPE)
                                 .policyVersion(MOCK_POLICY_VERSION)
-                                .description(MOCK_POLICY_DESCRIPTION)
+                                .description(MOCK_POLICY_PREVIOUS_DESCRIPTION)
                                 .policy(MOCK_POLICY_DOCUMENT)
                                 .build()
                 ).build();
@@ -202,7 +317,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .name(MOCK_POLICY_NAME)
                                 .type(MOCK_POLICY_TYPE)
                                 .policyVersion(MOCK_POLICY_VERSION)
-                                .description(MOCK_POLICY_DESCRIPTION)
+                                .description(MOCK_POLICY_PREVIOUS_DESCRIPTION)
                                 .policy(MOCK_POLICY_DOCUMENT)
                                 .build()
                 ).build();
@@ -238,7 +353,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .name(MOCK_POLICY_NAME)
                                 .type(MOCK_POLICY_TYPE)
                                 .policyVersion(MOCK_POLICY_VERSION)
-                                .description(MOCK_POLICY_DESCRIPTION)
+                                .description(MOCK_POLICY_PREVIOUS_DESCRIPTION)
                                 .policy(MOCK_POLICY_DOCUMENT)
                                 .build()
                 ).build();
@@ -262,4 +377,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(openSearchServerlessClient).updateSecurityPolicy(any(UpdateSecurityPolicyRequest.class));
     }
+
+    private static SecurityPolicyDetail securityPolicyDetail(final String description, final String policyVersion) {
+        return SecurityPolicyDetail.builder()
+            .name(MOCK_POLICY_NAME)
+            .type(MOCK_POLICY_TYPE)
+            .description(description)
+            .policy(MOCK_POLICY_DOCUMENT)
+            .policyVersion(policyVersion)
+            .build();
+    }
 }
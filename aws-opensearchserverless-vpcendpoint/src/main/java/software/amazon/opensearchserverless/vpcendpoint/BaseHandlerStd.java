@@ -14,6 +14,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 import lombok.NonNull;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -22,6 +25,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
   protected BaseHandlerStd() {
     this(ClientBuilder.getClient());
+    Priming.prime();
   }
 
   protected BaseHandlerStd(OpenSearchServerlessClient openSearchServerlessClient ) {
@@ -42,7 +46,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             proxy,
             request,
             callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(this::getOpenSearchServerlessClient),
+            ErrorClassifier.classifyErrors(proxy.newProxy(this::getOpenSearchServerlessClient)),
             logger);
   }
 
@@ -94,4 +98,35 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
     throw exception;
   }
+
+  /**
+   * Time left in the cleanup window of a deleted VpcEndpoint, in whole seconds and at least one second.
+   *
+   * @param callbackContext the callback context holding the cleanup deadline
+   * @return the delay before the confirming poll
+   */
+  static Duration untilCleanupDeadline(final @NonNull CallbackContext callbackContext) {
+    final long remainingMillis = callbackContext.getCleanupDeadline() - System.currentTimeMillis();
+    return Duration.ofSeconds(Math.max(1, (remainingMillis + 999) / 1000));
+  }
+
+  /**
+   * Returns the resource model translated from the last stabilization poll, so that a stabilized VpcEndpoint is
+   * not read again. Falls back to the given read when no stabilization poll has been recorded.
+   *
+   * @param progress the progress of the call chain
+   * @param read     the read of the VpcEndpoint
+   * @return ProgressEvent
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> stabilizedResult(
+          final @NonNull ProgressEvent<ResourceModel, CallbackContext> progress,
+          final @NonNull Supplier<ProgressEvent<ResourceModel, CallbackContext>> read) {
+    final CallbackContext callbackContext = progress.getCallbackContext();
+    final ResourceModel stabilizedResourceModel = callbackContext.getStabilizedResourceModel();
+    if (stabilizedResourceModel == null) {
+      return read.get();
+    }
+    callbackContext.setStabilizedResourceModel(null);
+    return ProgressEvent.defaultSuccessHandler(stabilizedResourceModel);
+  }
 }
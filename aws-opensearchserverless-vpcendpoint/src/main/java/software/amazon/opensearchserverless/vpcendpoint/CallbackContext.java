@@ -9,5 +9,9 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private VpcEndpointDetail currentVpcEndpointDetail;
-    private int cleanupWaitCount;
+    private Long cleanupDeadline;
+    /**
+     * Resource model translated from the last stabilization poll, returned instead of reading the VpcEndpoint again.
+     */
+    private ResourceModel stabilizedResourceModel;
 }
@@ -9,6 +9,8 @@ import software.amazon.awssdk.services.opensearchserverless.model.CreateVpcEndpo
 import software.amazon.awssdk.services.opensearchserverless.model.InternalServerException;
 import software.amazon.awssdk.services.opensearchserverless.model.ValidationException;
 import software.amazon.awssdk.services.opensearchserverless.model.VpcEndpointDetail;
+import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -20,9 +22,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import com.amazonaws.util.CollectionUtils;
-import com.amazonaws.util.StringUtils;
-
 public class CreateHandler extends BaseHandlerStd {
 
     private final ReadHandler readHandler;
@@ -48,10 +47,10 @@ public class CreateHandler extends BaseHandlerStd {
         if (callbackContext == null && model.getId() != null) {
             throw new CfnInvalidRequestException("Id should not be set");
         }
-        if (StringUtils.isNullOrEmpty(model.getName())) {
+        if (StringUtils.isEmpty(model.getName())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Name cannot be empty");
         }
-        if (StringUtils.isNullOrEmpty(model.getVpcId())) {
+        if (StringUtils.isEmpty(model.getVpcId())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "VpcId cannot be empty");
         }
         if (CollectionUtils.isNullOrEmpty(model.getSubnetIds())) {
@@ -61,12 +60,13 @@ public class CreateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
                 proxy.initiate("AWS-OpenSearchServerless-VpcEndpoint::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::translateToCreateRequest)
+                    .translateToServiceRequest(cbModel -> Translator.translateToCreateRequest(cbModel, request.getClientRequestToken()))
                     .makeServiceCall((awsRequest, client) -> createVpcEndpoint(awsRequest, client, logger))
-                    .stabilize((awsRequest, awsResponse, client, cbModel, context) -> stabilizeVpcEndpointCreate(awsResponse, client, cbModel, logger))
+                    .stabilize((awsRequest, awsResponse, client, cbModel, context) -> stabilizeVpcEndpointCreate(awsResponse, client, cbModel, context, logger))
                     .done((createVpcEndpointRequest, createVpcEndpointResponse, client, resourceModel, callbackContext1) -> ProgressEvent.progress(resourceModel, callbackContext1))
             )
-            .then(progress -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> stabilizedResult(progress,
+                () -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     /**
@@ -75,12 +75,14 @@ public class CreateHandler extends BaseHandlerStd {
      * @param createVpcEndpointResponse the aws service response to create VpcEndpoint resource
      * @param proxyClient               the aws service client to make the call
      * @param resourceModel             the resource model
+     * @param callbackContext           the callback context for aws service request
      * @return true only if VpcEndpoint status is ACTIVE
      */
     private boolean stabilizeVpcEndpointCreate(
         final CreateVpcEndpointResponse createVpcEndpointResponse,
         final ProxyClient<OpenSearchServerlessClient> proxyClient,
         final ResourceModel resourceModel,
+        final CallbackContext callbackContext,
         final Logger logger) {
         String id = createVpcEndpointResponse.createVpcEndpointDetail().id();
         resourceModel.setId(id);
@@ -95,12 +97,23 @@ public class CreateHandler extends BaseHandlerStd {
                 case PENDING:
                     return false;
                 case ACTIVE:
+                    callbackContext.setStabilizedResourceModel(Translator.translateFromReadResponse(response));
                     return true;
             }
         }
         throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, id);
     }
 
+    /**
+     * Create operation will be called. The request carries the client request token of CloudFormation as its client
+     * token, so that the service answers a handler retried after the VpcEndpoint was created with the same VpcEndpoint.
+     * A create that still conflicts fails as already existing.
+     *
+     * @param createVpcEndpointRequest the aws service request to create VpcEndpoint resource
+     * @param proxyClient              the aws service client to make the call
+     * @param logger                   the logger
+     * @return the aws service response
+     */
     private CreateVpcEndpointResponse createVpcEndpoint(
         final CreateVpcEndpointRequest createVpcEndpointRequest,
         final ProxyClient<OpenSearchServerlessClient> proxyClient,
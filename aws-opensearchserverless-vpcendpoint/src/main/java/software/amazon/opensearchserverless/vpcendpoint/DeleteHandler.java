@@ -2,30 +2,51 @@ package software.amazon.opensearchserverless.vpcendpoint;
 
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
 import software.amazon.awssdk.services.opensearchserverless.model.*;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
 
-import com.amazonaws.util.StringUtils;
+import java.time.Duration;
 
 public class DeleteHandler extends BaseHandlerStd {
 
-    public static final int CLEANUP_WAIT_COUNT = 10;
+    private static final Delay POLL_DELAY = Constant.of()
+        .delay(Duration.ofSeconds(5))
+        .timeout(Duration.ofMinutes(20))
+        .build();
+
+    /**
+     * Time a deleted VpcEndpoint must stay absent from BatchGetVpcEndpoint before the delete completes, so that
+     * an eventually consistent read does not end the delete early.
+     */
+    static final Duration CLEANUP_WINDOW = Duration.ofSeconds(30);
+
+    private final Duration cleanupWindow;
 
     public DeleteHandler() {
         super();
+        this.cleanupWindow = CLEANUP_WINDOW;
     }
 
     public DeleteHandler(OpenSearchServerlessClient openSearchServerlessClient) {
         super(openSearchServerlessClient);
+        this.cleanupWindow = CLEANUP_WINDOW;
+    }
+
+    public DeleteHandler(OpenSearchServerlessClient openSearchServerlessClient, Duration cleanupWindow) {
+        super(openSearchServerlessClient);
+        this.cleanupWindow = cleanupWindow;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -36,7 +57,7 @@ public class DeleteHandler extends BaseHandlerStd {
         final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-        if (StringUtils.isNullOrEmpty(model.getId())) {
+        if (StringUtils.isEmpty(model.getId())) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Id cannot be empty");
         }
 
@@ -54,12 +75,15 @@ public class DeleteHandler extends BaseHandlerStd {
                     progress.getResourceModel(),
                     progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-                .makeServiceCall((deleteVpcEndpointRequest, proxyClient1) -> {
-                    DeleteVpcEndpointResponse awsResponse =
-                        deleteVpcEndpoint(deleteVpcEndpointRequest, proxyClient1, logger);
-                    callbackContext.setCleanupWaitCount(CLEANUP_WAIT_COUNT);
-                    return awsResponse;
+                .backoffDelay(attempt -> {
+                    // once the VpcEndpoint is gone, the next poll is the confirming read at the end of the cleanup window
+                    final Duration delay = POLL_DELAY.nextDelay(attempt);
+                    return delay.isZero() || progress.getCallbackContext().getCleanupDeadline() == null
+                        ? delay
+                        : untilCleanupDeadline(progress.getCallbackContext());
                 })
+                .makeServiceCall((deleteVpcEndpointRequest, proxyClient1) ->
+                    deleteVpcEndpoint(deleteVpcEndpointRequest, proxyClient1, logger))
                 .stabilize((awsRequest, awsResponse, proxyClient1, resourceModel, callbackContext1) ->
                     stabilizeVpcEndpointDelete(awsRequest, proxyClient1, callbackContext1, logger))
                 .done((deleteRequest) -> ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).build()));
@@ -70,7 +94,8 @@ public class DeleteHandler extends BaseHandlerStd {
      *
      * @param deleteVpcEndpointRequest the aws service request to delete VpcEndpoint resource
      * @param proxyClient              the aws service client to make the call
-     *                                 Returns true only if VpcEndpoint is not found or status is FAILED
+     * @param callbackContext          the callback context holding the cleanup deadline
+     *                                 Returns true only once VpcEndpoint has not been found for the cleanup window
      */
     private boolean stabilizeVpcEndpointDelete(
         final DeleteVpcEndpointRequest deleteVpcEndpointRequest,
@@ -82,16 +107,16 @@ public class DeleteHandler extends BaseHandlerStd {
         final BatchGetVpcEndpointRequest request = BatchGetVpcEndpointRequest.builder().ids(deleteVpcEndpointRequest.id()).build();
         final BatchGetVpcEndpointResponse batchGetVpcEndpointResponse = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::batchGetVpcEndpoint);
         if (batchGetVpcEndpointResponse.vpcEndpointDetails().isEmpty()) {
-            int cleanupWaitCount = callbackContext.getCleanupWaitCount() - 1;
-            if (cleanupWaitCount > 0 ) {
-                callbackContext.setCleanupWaitCount(cleanupWaitCount);
-                return false;
-            } else {
-                return true;
+            if (callbackContext.getCleanupDeadline() == null) {
+                callbackContext.setCleanupDeadline(System.currentTimeMillis() + cleanupWindow.toMillis());
+                return cleanupWindow.isZero();
             }
+            return System.currentTimeMillis() >= callbackContext.getCleanupDeadline();
         } else if (batchGetVpcEndpointResponse.vpcEndpointDetails().size() == 1) {
             final VpcEndpointDetail vpcEndpointDetail = batchGetVpcEndpointResponse.vpcEndpointDetails().get(0);
             if (vpcEndpointDetail.status().equals(VpcEndpointStatus.DELETING)) {
+                // seen again, the cleanup window restarts with the next empty read
+                callbackContext.setCleanupDeadline(null);
                 return false;
             }
         }
@@ -1,8 +1,10 @@
 package software.amazon.opensearchserverless.vpcendpoint;
 
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.BatchGetVpcEndpointResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.ListVpcEndpointsRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListVpcEndpointsResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.VpcEndpointStatus;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -10,10 +12,23 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
+/**
+ * Lists the ACTIVE VpcEndpoints. The page is returned with the full models, read with one BatchGetVpcEndpoint call per
+ * {@link #MAX_BATCH_SIZE} VpcEndpoints, so that the resources listed need not be read one by one.
+ */
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Ids accepted by a BatchGetVpcEndpoint call at most.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
     public ListHandler() {
         super();
     }
@@ -31,13 +46,42 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger) {
 
         final ListVpcEndpointsRequest listVpcEndpointsRequest = ListVpcEndpointsRequest.builder().nextToken(request.getNextToken()).build();
-        final ListVpcEndpointsResponse listVpcEndpointsResponse = proxy.injectCredentialsAndInvokeV2(listVpcEndpointsRequest, proxyClient.client()::listVpcEndpoints);
+        final ListVpcEndpointsResponse listVpcEndpointsResponse = proxy.injectCredentialsAndInvokeV2(listVpcEndpointsRequest,
+                proxyClient.client()::listVpcEndpoints);
         final List<ResourceModel> models = Translator.translateFromListResponse(listVpcEndpointsResponse);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                            .resourceModels(models)
+                            .resourceModels(readFullModels(models, proxyClient, logger))
                             .nextToken(listVpcEndpointsResponse.nextToken())
                             .status(OperationStatus.SUCCESS)
                             .build();
     }
+
+    /**
+     * Reads the full models of the listed VpcEndpoints in batches. VpcEndpoints no longer ACTIVE are left out.
+     *
+     * @param models      the listed resource models (primary identifier only)
+     * @param proxyClient the aws service client to make the calls
+     * @param logger      the logger
+     * @return the full resource models, in the order they were listed
+     */
+    private List<ResourceModel> readFullModels(
+            final List<ResourceModel> models,
+            final ProxyClient<OpenSearchServerlessClient> proxyClient,
+            final Logger logger) {
+        final List<String> ids = models.stream().map(ResourceModel::getId).collect(Collectors.toList());
+        final Map<String, ResourceModel> modelsById = new HashMap<>();
+        int calls = 0;
+        for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+            final List<String> batch = ids.subList(from, Math.min(ids.size(), from + MAX_BATCH_SIZE));
+            final BatchGetVpcEndpointResponse batchGetVpcEndpointResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToBatchReadRequest(batch), proxyClient.client()::batchGetVpcEndpoint);
+            batchGetVpcEndpointResponse.vpcEndpointDetails().stream()
+                                       .filter(vpcEndpointDetail -> VpcEndpointStatus.ACTIVE.equals(vpcEndpointDetail.status()))
+                                       .forEach(vpcEndpointDetail -> modelsById.put(vpcEndpointDetail.id(), Translator.translateFromVpcEndpointDetail(vpcEndpointDetail)));
+            calls++;
+        }
+        logger.log(String.format("%s read %d of %d listed resources in %d calls", ResourceModel.TYPE_NAME, modelsById.size(), ids.size(), calls));
+        return ids.stream().map(modelsById::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
 }
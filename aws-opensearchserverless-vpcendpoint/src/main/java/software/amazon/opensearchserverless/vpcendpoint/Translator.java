@@ -10,10 +10,8 @@ import software.amazon.awssdk.services.opensearchserverless.model.VpcEndpointDet
 import software.amazon.awssdk.services.opensearchserverless.model.VpcEndpointStatus;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,12 +20,14 @@ public class Translator {
   /**
    * Request to create a resource
    *
-   * @param model resource model
+   * @param model       resource model
+   * @param clientToken idempotency token of the create, the same for each attempt of the handler request
    * @return awsRequest the aws service request to create a resource
    */
-  static CreateVpcEndpointRequest translateToCreateRequest(final ResourceModel model) {
+  static CreateVpcEndpointRequest translateToCreateRequest(final ResourceModel model, final String clientToken) {
     CreateVpcEndpointRequest.Builder createVpcEndpointRequestBuilder =
-            CreateVpcEndpointRequest.builder().name(model.getName()).vpcId(model.getVpcId()).subnetIds(model.getSubnetIds());
+            CreateVpcEndpointRequest.builder().name(model.getName()).vpcId(model.getVpcId()).subnetIds(model.getSubnetIds())
+                    .clientToken(clientToken);
     if (model.getSecurityGroupIds() != null) {
       createVpcEndpointRequestBuilder.securityGroupIds(model.getSecurityGroupIds());
     }
@@ -44,6 +44,16 @@ public class Translator {
     return BatchGetVpcEndpointRequest.builder().ids(model.getId()).build();
   }
 
+  /**
+   * Request to read resources in a batch
+   *
+   * @param ids VpcEndpoint ids, no more than BatchGetVpcEndpoint accepts
+   * @return awsRequest the aws service request to describe the resources
+   */
+  static BatchGetVpcEndpointRequest translateToBatchReadRequest(final List<String> ids) {
+    return BatchGetVpcEndpointRequest.builder().ids(ids).build();
+  }
+
   /**
    * Translates resource object from sdk into a resource model
    *
@@ -51,7 +61,16 @@ public class Translator {
    * @return model resource model
    */
   static ResourceModel translateFromReadResponse(final BatchGetVpcEndpointResponse batchGetVpcEndpointResponse) {
-    VpcEndpointDetail vpcEndpointDetail = batchGetVpcEndpointResponse.vpcEndpointDetails().get(0);
+    return translateFromVpcEndpointDetail(batchGetVpcEndpointResponse.vpcEndpointDetails().get(0));
+  }
+
+  /**
+   * Translates a VpcEndpoint from sdk into a resource model
+   *
+   * @param vpcEndpointDetail the VpcEndpoint
+   * @return model resource model
+   */
+  static ResourceModel translateFromVpcEndpointDetail(final VpcEndpointDetail vpcEndpointDetail) {
     return ResourceModel.builder()
                         .id(vpcEndpointDetail.id())
                         .name(vpcEndpointDetail.name())
@@ -91,34 +110,6 @@ public class Translator {
   }
 
     public static UpdateVpcEndpointRequest translateToFirstUpdateRequest(ResourceModel resourceModel, VpcEndpointDetail currentVpcEndpointDetail) {
-      Set<String> currentSubnetIds = streamOfOrEmpty(currentVpcEndpointDetail.subnetIds()).collect(Collectors.toSet());
-      Set<String> currentSecurityGroupIds = streamOfOrEmpty(currentVpcEndpointDetail.securityGroupIds()).collect(Collectors.toSet());
-      Set<String> newSubnetIds = streamOfOrEmpty(resourceModel.getSubnetIds()).collect(Collectors.toSet());
-      Set<String> newSecurityGroupIds = streamOfOrEmpty(resourceModel.getSecurityGroupIds()).collect(Collectors.toSet());
-
-      Set<String> addSubnetIds = new HashSet<>(newSubnetIds);
-      Set<String> removeSubnetIds = new HashSet<>(currentSubnetIds);
-      Set<String> addSecurityGroupIds = new HashSet<>(newSecurityGroupIds);
-      Set<String> removeSecurityGroupIds = new HashSet<>(currentSecurityGroupIds);
-      addSubnetIds.removeAll(currentSubnetIds);
-      removeSubnetIds.removeAll(newSubnetIds);
-      addSecurityGroupIds.removeAll(currentSecurityGroupIds);
-      removeSecurityGroupIds.removeAll(newSecurityGroupIds);
-
-      UpdateVpcEndpointRequest.Builder updateVpcEndpointRequestBuilder = UpdateVpcEndpointRequest.builder()
-          .id(resourceModel.getId());
-      if (!addSubnetIds.isEmpty()) {
-        updateVpcEndpointRequestBuilder.addSubnetIds(addSubnetIds);
-      }
-      if (!removeSubnetIds.isEmpty()) {
-        updateVpcEndpointRequestBuilder.removeSubnetIds(removeSubnetIds);
-      }
-      if (!addSecurityGroupIds.isEmpty()) {
-        updateVpcEndpointRequestBuilder.addSecurityGroupIds(addSecurityGroupIds);
-      }
-      if (!removeSecurityGroupIds.isEmpty()) {
-        updateVpcEndpointRequestBuilder.removeSecurityGroupIds(removeSecurityGroupIds);
-      }
-      return updateVpcEndpointRequestBuilder.build();
+      return VpcEndpointChangePlan.of(resourceModel, currentVpcEndpointDetail).toUpdateRequest(resourceModel.getId());
     }
 }
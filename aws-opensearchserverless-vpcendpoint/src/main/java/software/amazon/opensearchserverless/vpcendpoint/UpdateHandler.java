@@ -81,6 +81,18 @@ public class UpdateHandler extends BaseHandlerStd {
                     })
                     .progress()
             )
+            // STEP 1.3 [plan the changes, skip the update and its stabilization when there are none]
+            .then(progress -> {
+                final VpcEndpointChangePlan changePlan = VpcEndpointChangePlan.of(progress.getResourceModel(),
+                    callbackContext.getCurrentVpcEndpointDetail());
+                logger.log(String.format("%s update plan: %s", ResourceModel.TYPE_NAME, changePlan));
+                if (!changePlan.isEmpty()) {
+                    return progress;
+                }
+                logger.log(String.format("%s is already in the desired state, skipping update", ResourceModel.TYPE_NAME));
+                return ProgressEvent.defaultSuccessHandler(
+                    Translator.translateFromVpcEndpointDetail(callbackContext.getCurrentVpcEndpointDetail()));
+            })
             // STEP 2 [first update/stabilize progress chain - required for resource update]
             .then(progress ->
                 // STEP 2.0 [initialize a proxy context]
@@ -103,10 +115,11 @@ public class UpdateHandler extends BaseHandlerStd {
                     // for more information ->
                     // https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
                     .stabilize((awsRequest, awsResponse, client, cbModel, context) ->
-                        stabilizeVpcEndpointUpdate(client, cbModel, logger))
+                        stabilizeVpcEndpointUpdate(client, cbModel, context, logger))
                     .progress())
-            // STEP 4 [describe call/chain to return the resource model]
-            .then(progress -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            // STEP 4 [return the resource model of the last stabilization poll, describe only if there is none]
+            .then(progress -> stabilizedResult(progress,
+                () -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     /**
@@ -114,12 +127,14 @@ public class UpdateHandler extends BaseHandlerStd {
      *
      * @param proxyClient               the aws service client to make the call
      * @param resourceModel             the resource model
+     * @param callbackContext           the callback context for aws service request
      * @param logger                    the logger
      * @return true only if VPCEndpoint status is ACTIVE
      */
     private boolean stabilizeVpcEndpointUpdate(
         final ProxyClient<OpenSearchServerlessClient> proxyClient,
         final ResourceModel resourceModel,
+        final CallbackContext callbackContext,
         final Logger logger) {
         logger.log(String.format("Stabilize VpcEndpointUpdate for resource %s", resourceModel));
         BatchGetVpcEndpointRequest batchGetVpcEndpointRequest = Translator.translateToReadRequest(resourceModel);
@@ -135,6 +150,7 @@ public class UpdateHandler extends BaseHandlerStd {
                     case PENDING:
                         return false;
                     case ACTIVE:
+                        callbackContext.setStabilizedResourceModel(Translator.translateFromReadResponse(batchGetVpcEndpointResponse));
                         return true;
                 }
             }
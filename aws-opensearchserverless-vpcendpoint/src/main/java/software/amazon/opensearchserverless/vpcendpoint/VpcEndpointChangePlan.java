@@ -0,0 +1,111 @@
+package software.amazon.opensearchserverless.vpcendpoint;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import software.amazon.awssdk.services.opensearchserverless.model.UpdateVpcEndpointRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.VpcEndpointDetail;
+
+import lombok.NonNull;
+
+/**
+ * The subnets and security groups to add to and remove from a VpcEndpoint to reach the desired state.
+ * <p>
+ * An empty plan means that the VpcEndpoint is already in the desired state, in which case the update call, and the
+ * stabilization that follows it, are skipped.
+ */
+@lombok.Getter
+@lombok.EqualsAndHashCode
+final class VpcEndpointChangePlan {
+
+    private final Set<String> addSubnetIds;
+    private final Set<String> removeSubnetIds;
+    private final Set<String> addSecurityGroupIds;
+    private final Set<String> removeSecurityGroupIds;
+
+    private VpcEndpointChangePlan(
+        final Set<String> currentSubnetIds,
+        final Set<String> currentSecurityGroupIds,
+        final Set<String> newSubnetIds,
+        final Set<String> newSecurityGroupIds) {
+        this.addSubnetIds = difference(newSubnetIds, currentSubnetIds);
+        this.removeSubnetIds = difference(currentSubnetIds, newSubnetIds);
+        this.addSecurityGroupIds = difference(newSecurityGroupIds, currentSecurityGroupIds);
+        this.removeSecurityGroupIds = difference(currentSecurityGroupIds, newSecurityGroupIds);
+    }
+
+    /**
+     * Plans the changes from the current VpcEndpoint to the desired resource model.
+     *
+     * @param resourceModel            the desired resource model
+     * @param currentVpcEndpointDetail the current VpcEndpoint
+     * @return the change plan
+     */
+    static VpcEndpointChangePlan of(
+        final @NonNull ResourceModel resourceModel,
+        final @NonNull VpcEndpointDetail currentVpcEndpointDetail) {
+        return new VpcEndpointChangePlan(
+            toSet(currentVpcEndpointDetail.subnetIds()),
+            toSet(currentVpcEndpointDetail.securityGroupIds()),
+            toSet(resourceModel.getSubnetIds()),
+            toSet(resourceModel.getSecurityGroupIds()));
+    }
+
+    /**
+     * @return true if the VpcEndpoint is already in the desired state
+     */
+    boolean isEmpty() {
+        return addSubnetIds.isEmpty() && removeSubnetIds.isEmpty()
+            && addSecurityGroupIds.isEmpty() && removeSecurityGroupIds.isEmpty();
+    }
+
+    /**
+     * Request to apply the plan, only the non-empty sets are sent.
+     *
+     * @param id the VpcEndpoint id
+     * @return awsRequest the aws service request to update the VpcEndpoint
+     */
+    UpdateVpcEndpointRequest toUpdateRequest(final String id) {
+        final UpdateVpcEndpointRequest.Builder updateVpcEndpointRequestBuilder = UpdateVpcEndpointRequest.builder().id(id);
+        if (!addSubnetIds.isEmpty()) {
+            updateVpcEndpointRequestBuilder.addSubnetIds(addSubnetIds);
+        }
+        if (!removeSubnetIds.isEmpty()) {
+            updateVpcEndpointRequestBuilder.removeSubnetIds(removeSubnetIds);
+        }
+        if (!addSecurityGroupIds.isEmpty()) {
+            updateVpcEndpointRequestBuilder.addSecurityGroupIds(addSecurityGroupIds);
+        }
+        if (!removeSecurityGroupIds.isEmpty()) {
+            updateVpcEndpointRequestBuilder.removeSecurityGroupIds(removeSecurityGroupIds);
+        }
+        return updateVpcEndpointRequestBuilder.build();
+    }
+
+    /**
+     * Summary of the planned delta for the handler logs, with the change counts first so that they can be filtered on.
+     */
+    @Override
+    public String toString() {
+        return String.format("changes=%d addSubnetIds=%s removeSubnetIds=%s addSecurityGroupIds=%s removeSecurityGroupIds=%s",
+            addSubnetIds.size() + removeSubnetIds.size() + addSecurityGroupIds.size() + removeSecurityGroupIds.size(),
+            addSubnetIds, removeSubnetIds, addSecurityGroupIds, removeSecurityGroupIds);
+    }
+
+    private static Set<String> toSet(final Collection<String> collection) {
+        return Optional.ofNullable(collection)
+            .map(Collection::stream)
+            .orElseGet(Stream::empty)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Set<String> difference(final Set<String> set, final Set<String> other) {
+        final Set<String> difference = new TreeSet<>(set);
+        difference.removeAll(other);
+        return difference;
+    }
+}
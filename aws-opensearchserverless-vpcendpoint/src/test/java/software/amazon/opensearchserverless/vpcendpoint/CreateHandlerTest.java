@@ -28,6 +28,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -47,6 +48,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     private static final List<String> MOCK_VPC_ENDPOINT_SUBNET_IDS = ImmutableList.of("subnetid1", "subnetid2");
     private static final List<String> MOCK_VPC_ENDPOINT_SECURITY_GROUP_IDS = ImmutableList.of("securitygroupid", "securitygroupid");
     private static final long MOCK_CREATED_DATE = 1234567;
+    private static final String MOCK_CLIENT_REQUEST_TOKEN = "4b90a7e4-b790-456b-a937-0cfdfa211dfe";
 
     private AmazonWebServicesClientProxy proxy;
     private ProxyClient<OpenSearchServerlessClient> proxyClient;
@@ -123,6 +125,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(openSearchServerlessClient).createVpcEndpoint(any(CreateVpcEndpointRequest.class));
+        verify(openSearchServerlessClient).batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class));
     }
 
     @Test
@@ -222,13 +225,16 @@ public class CreateHandlerTest extends AbstractTestBase {
                                                         .subnetIds(MOCK_VPC_ENDPOINT_SUBNET_IDS)
                                                         .securityGroupIds(MOCK_VPC_ENDPOINT_SECURITY_GROUP_IDS)
                                                         .build();
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().
-                                                                                    desiredResourceState(requestModel)
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                    .clientRequestToken(MOCK_CLIENT_REQUEST_TOKEN)
+                                                                                    .desiredResourceState(requestModel)
                                                                                     .build();
 
         assertThrows(CfnAlreadyExistsException.class,
                      () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
-        verify(openSearchServerlessClient).createVpcEndpoint(any(CreateVpcEndpointRequest.class));
+        final ArgumentCaptor<CreateVpcEndpointRequest> createVpcEndpointRequestCaptor = ArgumentCaptor.forClass(CreateVpcEndpointRequest.class);
+        verify(openSearchServerlessClient).createVpcEndpoint(createVpcEndpointRequestCaptor.capture());
+        assertThat(createVpcEndpointRequestCaptor.getValue().clientToken()).isEqualTo(MOCK_CLIENT_REQUEST_TOKEN);
     }
 
     @Test
@@ -39,6 +39,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     private static final List<String> MOCK_VPC_ENDPOINT_SUBNET_IDS = ImmutableList.of("subnetid1", "subnetid2");
     private static final List<String> MOCK_VPC_ENDPOINT_SECURITY_GROUP_IDS = ImmutableList.of("securitygroupid", "securitygroupid");
     private static final long MOCK_CREATED_DATE = 1234567;
+    private static final Duration MOCK_CLEANUP_WINDOW = Duration.ofSeconds(1);
 
     private AmazonWebServicesClientProxy proxy;
     private ProxyClient<OpenSearchServerlessClient> proxyClient;
@@ -50,7 +51,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         openSearchServerlessClient = Mockito.mock(OpenSearchServerlessClient.class);
         proxyClient = MOCK_PROXY(proxy, openSearchServerlessClient);
-        handler = new DeleteHandler(openSearchServerlessClient);
+        handler = new DeleteHandler(openSearchServerlessClient, MOCK_CLEANUP_WINDOW);
     }
 
     @AfterEach
@@ -101,6 +102,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         Mockito.verify(openSearchServerlessClient).deleteVpcEndpoint(any(DeleteVpcEndpointRequest.class));
+        // pre-deletion check, first empty read and confirming read at the end of the cleanup window
+        Mockito.verify(openSearchServerlessClient, Mockito.times(3)).batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class));
     }
 
     @Test
@@ -1,6 +1,9 @@
 package software.amazon.opensearchserverless.vpcendpoint;
 
 import software.amazon.awssdk.services.opensearchserverless.OpenSearchServerlessClient;
+import software.amazon.awssdk.services.opensearchserverless.model.BatchGetVpcEndpointRequest;
+import software.amazon.awssdk.services.opensearchserverless.model.BatchGetVpcEndpointResponse;
+import software.amazon.awssdk.services.opensearchserverless.model.VpcEndpointDetail;
 import software.amazon.awssdk.services.opensearchserverless.model.ListVpcEndpointsRequest;
 import software.amazon.awssdk.services.opensearchserverless.model.ListVpcEndpointsResponse;
 import software.amazon.awssdk.services.opensearchserverless.model.VpcEndpointStatus;
@@ -14,11 +17,15 @@ import com.google.common.collect.ImmutableList;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +35,7 @@ import static org.mockito.ArgumentMatchers.any;
 public class ListHandlerTest extends AbstractTestBase {
 
     public static final String MOCK_NEXT_TOKEN = "a-bbvsdfff01011";
+    private static final String MOCK_VPC_ENDPOINT_VPC_ID = "vpcid";
     private AmazonWebServicesClientProxy proxy;
     private ProxyClient<OpenSearchServerlessClient> proxyClient;
     private OpenSearchServerlessClient openSearchServerlessClient;
@@ -55,6 +63,7 @@ public class ListHandlerTest extends AbstractTestBase {
                 ListVpcEndpointsResponse.builder().vpcEndpointSummaries(vpcEndpointSummaries).build();
         Mockito.when(openSearchServerlessClient.listVpcEndpoints(any(ListVpcEndpointsRequest.class)))
                .thenReturn(listVpcEndpointsResponse);
+        stubBatchGetVpcEndpoint();
 
         final ResourceModel model = ResourceModel.builder().build();
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().
@@ -76,6 +85,7 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getNextToken()).isNull();
 
         Mockito.verify(openSearchServerlessClient).listVpcEndpoints(any(ListVpcEndpointsRequest.class));
+        Mockito.verify(openSearchServerlessClient).batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class));
     }
 
     @Test
@@ -87,6 +97,7 @@ public class ListHandlerTest extends AbstractTestBase {
                 ListVpcEndpointsResponse.builder().vpcEndpointSummaries(vpcEndpointSummaries).build();
         Mockito.when(openSearchServerlessClient.listVpcEndpoints(any(ListVpcEndpointsRequest.class)))
                .thenReturn(listVpcEndpointsResponse);
+        stubBatchGetVpcEndpoint();
 
         final ResourceModel model = ResourceModel.builder().build();
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().
@@ -107,6 +118,7 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         Mockito.verify(openSearchServerlessClient).listVpcEndpoints(any(ListVpcEndpointsRequest.class));
+        Mockito.verify(openSearchServerlessClient).batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class));
     }
 
     @Test
@@ -120,6 +132,7 @@ public class ListHandlerTest extends AbstractTestBase {
                                         .build();
         Mockito.when(openSearchServerlessClient.listVpcEndpoints(any(ListVpcEndpointsRequest.class)))
                .thenReturn(listVpcEndpointsResponse);
+        stubBatchGetVpcEndpoint();
 
         final ResourceModel model = ResourceModel.builder().build();
         final ResourceHandlerRequest<ResourceModel> request =
@@ -139,5 +152,55 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getNextToken()).isEqualTo(MOCK_NEXT_TOKEN);
 
         Mockito.verify(openSearchServerlessClient).listVpcEndpoints(any(ListVpcEndpointsRequest.class));
+        Mockito.verify(openSearchServerlessClient).batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FullModels_ReadsInBatches() {
+        final List<VpcEndpointSummary> vpcEndpointSummaries = IntStream.range(0, ListHandler.MAX_BATCH_SIZE + 1)
+                .mapToObj(i -> VpcEndpointSummary.builder().id("id" + i).status(VpcEndpointStatus.ACTIVE).build())
+                .collect(Collectors.toList());
+        Mockito.when(openSearchServerlessClient.listVpcEndpoints(any(ListVpcEndpointsRequest.class)))
+               .thenReturn(ListVpcEndpointsResponse.builder().vpcEndpointSummaries(vpcEndpointSummaries).build());
+        Mockito.when(openSearchServerlessClient.batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class)))
+               .thenAnswer(invocation -> BatchGetVpcEndpointResponse.builder()
+                       .vpcEndpointDetails(invocation.getArgument(0, BatchGetVpcEndpointRequest.class).ids().stream()
+                               .filter(id -> !id.equals("id1"))
+                               .map(id -> VpcEndpointDetail.builder()
+                                       .id(id)
+                                       .name("name")
+                                       .vpcId(MOCK_VPC_ENDPOINT_VPC_ID)
+                                       .status(id.equals("id2") ? VpcEndpointStatus.DELETING : VpcEndpointStatus.ACTIVE)
+                                       .build())
+                               .collect(Collectors.toList()))
+                       .build());
+
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(vpcEndpointSummaries.size() - 2);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo("id0");
+        assertThat(response.getResourceModels().get(1).getId()).isEqualTo("id3");
+        assertThat(response.getResourceModels()).allSatisfy(resourceModel -> assertThat(resourceModel.getVpcId()).isEqualTo(MOCK_VPC_ENDPOINT_VPC_ID));
+
+        final ArgumentCaptor<BatchGetVpcEndpointRequest> captor = ArgumentCaptor.forClass(BatchGetVpcEndpointRequest.class);
+        Mockito.verify(openSearchServerlessClient).listVpcEndpoints(any(ListVpcEndpointsRequest.class));
+        Mockito.verify(openSearchServerlessClient, Mockito.times(2)).batchGetVpcEndpoint(captor.capture());
+        assertThat(captor.getAllValues().get(0).ids()).hasSize(ListHandler.MAX_BATCH_SIZE);
+        assertThat(captor.getAllValues().get(1).ids()).containsExactly("id" + ListHandler.MAX_BATCH_SIZE);
+    }
+
+    private void stubBatchGetVpcEndpoint() {
+        Mockito.when(openSearchServerlessClient.batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class)))
+               .thenAnswer(invocation -> BatchGetVpcEndpointResponse.builder()
+                       .vpcEndpointDetails(invocation.getArgument(0, BatchGetVpcEndpointRequest.class).ids().stream()
+                               .map(id -> VpcEndpointDetail.builder().id(id).status(VpcEndpointStatus.ACTIVE).build())
+                               .collect(Collectors.toList()))
+                       .build());
     }
 }
@@ -139,6 +139,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(openSearchServerlessClient).updateVpcEndpoint(any(UpdateVpcEndpointRequest.class));
+        verify(openSearchServerlessClient, times(2)).batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class));
     }
 
     @Test
@@ -345,4 +346,73 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(openSearchServerlessClient).updateVpcEndpoint(any(UpdateVpcEndpointRequest.class));
     }
 
+    @Test
+    public void handleRequest_NoChange_SkipsUpdate() {
+        final BatchGetVpcEndpointResponse batchGetVpcEndpointResponse =
+            BatchGetVpcEndpointResponse.builder().vpcEndpointDetails(
+                    VpcEndpointDetail.builder()
+                        .id(MOCK_VPC_ENDPOINT_ID)
+                        .name(MOCK_VPC_ENDPOINT_NAME)
+                        .vpcId(MOCK_VPC_ENDPOINT_VPC_ID)
+                        .subnetIds(MOCK_VPC_ENDPOINT_SUBNET_IDS_1)
+                        .securityGroupIds(MOCK_VPC_ENDPOINT_SECURITY_GROUP_IDS_1)
+                        .createdDate(MOCK_CREATED_DATE)
+                        .status(VpcEndpointStatus.ACTIVE)
+                        .build())
+                .build();
+        when(openSearchServerlessClient.batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class)))
+            .thenReturn(batchGetVpcEndpointResponse);
+
+        final ResourceModel requestModel = ResourceModel.builder()
+            .id(MOCK_VPC_ENDPOINT_ID)
+            .subnetIds(ImmutableList.of("subnetid3", "subnetid1"))
+            .securityGroupIds(ImmutableList.of("securitygroupid3", "securitygroupid1"))
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().
+            desiredResourceState(requestModel)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ResourceModel expectedModel = ResourceModel.builder()
+            .id(MOCK_VPC_ENDPOINT_ID)
+            .name(MOCK_VPC_ENDPOINT_NAME)
+            .vpcId(MOCK_VPC_ENDPOINT_VPC_ID)
+            .subnetIds(MOCK_VPC_ENDPOINT_SUBNET_IDS_1)
+            .securityGroupIds(MOCK_VPC_ENDPOINT_SECURITY_GROUP_IDS_1)
+            .build();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(expectedModel);
+
+        verify(openSearchServerlessClient).batchGetVpcEndpoint(any(BatchGetVpcEndpointRequest.class));
+        verify(openSearchServerlessClient, never()).updateVpcEndpoint(any(UpdateVpcEndpointRequest.class));
+    }
+
+    @Test
+    @org.junit.jupiter.api.Tag("skipSdkInteraction")
+    public void changePlan_OnlySendsChangedSets() {
+        final VpcEndpointDetail currentVpcEndpointDetail = VpcEndpointDetail.builder()
+            .id(MOCK_VPC_ENDPOINT_ID)
+            .subnetIds(MOCK_VPC_ENDPOINT_SUBNET_IDS)
+            .securityGroupIds(MOCK_VPC_ENDPOINT_SECURITY_GROUP_IDS_1)
+            .build();
+        final ResourceModel desiredModel = ResourceModel.builder()
+            .id(MOCK_VPC_ENDPOINT_ID)
+            .subnetIds(MOCK_VPC_ENDPOINT_SUBNET_IDS_1)
+            .securityGroupIds(MOCK_VPC_ENDPOINT_SECURITY_GROUP_IDS_1)
+            .build();
+
+        final VpcEndpointChangePlan changePlan = VpcEndpointChangePlan.of(desiredModel, currentVpcEndpointDetail);
+        final UpdateVpcEndpointRequest updateVpcEndpointRequest = changePlan.toUpdateRequest(MOCK_VPC_ENDPOINT_ID);
+
+        assertThat(changePlan.isEmpty()).isFalse();
+        assertThat(updateVpcEndpointRequest.addSubnetIds()).containsExactly("subnetid3");
+        assertThat(updateVpcEndpointRequest.removeSubnetIds()).containsExactly("subnetid2");
+        assertThat(updateVpcEndpointRequest.hasAddSecurityGroupIds()).isFalse();
+        assertThat(updateVpcEndpointRequest.hasRemoveSecurityGroupIds()).isFalse();
+    }
 }